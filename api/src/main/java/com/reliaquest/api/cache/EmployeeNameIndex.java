@@ -0,0 +1,191 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trigram inverted index over employee names for case-insensitive substring search.
+ *
+ * <p>Names are lower-cased once when an employee is added. Every trigram of a lower-cased name maps to a posting list
+ * of employee ordinals, kept in roster order. A search intersects the posting lists of the query's trigrams, shortest
+ * first, and confirms each candidate with {@link String#contains}, so results are exactly those of
+ * {@code name.toLowerCase().contains(query.toLowerCase())} in roster order. Queries shorter than a trigram fall back to
+ * a scan over the pre-lowered names.
+ *
+ * <p>Safe for concurrent use: searches share a read lock, {@link #add} and {@link #remove} take the write lock.
+ */
+public class EmployeeNameIndex {
+
+    private static final int GRAM = 3;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<EmployeeDto> employees = new ArrayList<>();
+    private final List<String> lowerNames = new ArrayList<>();
+    private final Map<UUID, Integer> ordinalsById = new HashMap<>();
+    private final Map<Long, Postings> postingsByGram = new HashMap<>();
+
+    public EmployeeNameIndex(List<EmployeeDto> roster) {
+        roster.forEach(this::index);
+    }
+
+    public void add(EmployeeDto employee) {
+        lock.writeLock().lock();
+        try {
+            index(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalsById.remove(id);
+            if (ordinal == null) {
+                return;
+            }
+            String lowerName = lowerNames.get(ordinal);
+            if (lowerName != null) {
+                for (long gram : grams(lowerName)) {
+                    Postings postings = postingsByGram.get(gram);
+                    postings.remove(ordinal);
+                    if (postings.size == 0) {
+                        postingsByGram.remove(gram);
+                    }
+                }
+            }
+            // ordinals stay stable, the slot is only cleared
+            employees.set(ordinal, null);
+            lowerNames.set(ordinal, null);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<EmployeeDto> search(String fragment) {
+        String query = fragment.toLowerCase();
+        lock.readLock().lock();
+        try {
+            return query.length() < GRAM ? scan(query) : lookup(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(EmployeeDto employee) {
+        UUID id = employee.getData().getId();
+        if (id != null && ordinalsById.containsKey(id)) {
+            remove(id);
+        }
+        int ordinal = employees.size();
+        String name = employee.getData().getName();
+        String lowerName = name == null ? null : name.toLowerCase();
+        employees.add(employee);
+        lowerNames.add(lowerName);
+        if (id != null) {
+            ordinalsById.put(id, ordinal);
+        }
+        if (lowerName != null) {
+            // ordinals only grow, so appending keeps every posting list sorted
+            for (long gram : grams(lowerName)) {
+                postingsByGram.computeIfAbsent(gram, g -> new Postings()).append(ordinal);
+            }
+        }
+    }
+
+    private List<EmployeeDto> scan(String query) {
+        List<EmployeeDto> matches = new ArrayList<>();
+        for (int ordinal = 0; ordinal < lowerNames.size(); ordinal++) {
+            String lowerName = lowerNames.get(ordinal);
+            if (lowerName != null && lowerName.contains(query)) {
+                matches.add(employees.get(ordinal));
+            }
+        }
+        return matches;
+    }
+
+    private List<EmployeeDto> lookup(String query) {
+        Set<Long> grams = grams(query);
+        Postings[] lists = new Postings[grams.size()];
+        int i = 0;
+        for (long gram : grams) {
+            Postings postings = postingsByGram.get(gram);
+            if (postings == null) {
+                return List.of();
+            }
+            lists[i++] = postings;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+        int[] candidates = Arrays.copyOf(lists[0].ordinals, lists[0].size);
+        int count = candidates.length;
+        for (int l = 1; l < lists.length && count > 0; l++) {
+            count = lists[l].retainAll(candidates, count);
+        }
+
+        List<EmployeeDto> matches = new ArrayList<>(count);
+        for (int c = 0; c < count; c++) {
+            int ordinal = candidates[c];
+            // sharing every trigram does not guarantee the trigrams are contiguous in the name
+            if (lowerNames.get(ordinal).contains(query)) {
+                matches.add(employees.get(ordinal));
+            }
+        }
+        return matches;
+    }
+
+    private static Set<Long> grams(String lowerName) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= lowerName.length(); i++) {
+            grams.add(((long) lowerName.charAt(i) << 32)
+                    | ((long) lowerName.charAt(i + 1) << 16)
+                    | lowerName.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    /** Sorted ordinals of the employees whose name contains one trigram. */
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void append(int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        void remove(int ordinal) {
+            int at = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (at >= 0) {
+                System.arraycopy(ordinals, at + 1, ordinals, at, size - at - 1);
+                size--;
+            }
+        }
+
+        /** Keeps the first {@code count} candidates that are also in this list, returns how many remain. */
+        int retainAll(int[] candidates, int count) {
+            int kept = 0;
+            int p = 0;
+            for (int c = 0; c < count && p < size; c++) {
+                while (p < size && ordinals[p] < candidates[c]) {
+                    p++;
+                }
+                if (p < size && ordinals[p] == candidates[c]) {
+                    candidates[kept++] = candidates[c];
+                }
+            }
+            return kept;
+        }
+    }
+}
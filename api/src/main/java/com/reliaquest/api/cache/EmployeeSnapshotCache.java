@@ -0,0 +1,463 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * In-process snapshot of the full employee roster fetched from the mock server.
+ *
+ * <p>A fresh snapshot is served as is. A stale snapshot is still served, while a single background refresh replaces
+ * it (stale-while-revalidate). Only the very first load waits for the loader. A TTL of zero disables caching and
+ * every call goes to the loader. {@link #get(Supplier)} is for the blocking request path, {@link #getAsync(Supplier)}
+ * never blocks and is meant for the reactive one.
+ *
+ * <p>Each snapshot lazily builds an {@link EmployeeNameIndex} the first time a name search needs it. Creates and
+ * deletes made through this service are applied to the current snapshot and its index in place, in time proportional
+ * to the employees written rather than to the roster, instead of dropping the snapshot and reloading the whole roster.
+ * They are also journaled with an increasing write generation: a load that started before some of them gets them
+ * re-applied before it is stored, so a refresh racing a write never loses it, and a load older than the snapshot
+ * already stored is discarded.
+ *
+ * <p>The last roster loaded, however old and even with caching disabled, stays available through {@link #lastGood()}
+ * for serving reads while the mock server cannot be asked.
+ */
+@Slf4j
+@Component
+public class EmployeeSnapshotCache {
+
+    // writes kept for re-applying to loads in flight; a load that started before the oldest one kept is dropped
+    private static final int MAX_JOURNAL = 1024;
+
+    private final Duration ttl;
+    private final Executor refreshExecutor;
+    private final ReentrantLock loadLock = new ReentrantLock();
+    // serializes writes with storing loads, and guards generation, journal and lastGoodGeneration
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Deque<Write> journal = new ArrayDeque<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter staleHits;
+    private final Counter refreshes;
+    private final Counter refreshFailures;
+
+    private volatile Snapshot snapshot;
+    // the snapshot itself while caching, also set when caching is disabled and never dropped
+    private volatile Snapshot lastGood;
+    private volatile long generation;
+    private long lastGoodGeneration;
+    private long journalFloor;
+
+    public EmployeeSnapshotCache(@Value("${employee.cache.ttl:30s}") Duration ttl, MeterRegistry meterRegistry) {
+        this.ttl = ttl;
+        this.refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-snapshot-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.hits = Counter.builder("employee.cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.staleHits = Counter.builder("employee.cache.requests")
+                .tag("result", "stale")
+                .register(meterRegistry);
+        this.misses = Counter.builder("employee.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.refreshes = Counter.builder("employee.cache.refreshes")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.refreshFailures = Counter.builder("employee.cache.refreshes")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        Gauge.builder("employee.cache.age.seconds", this, EmployeeSnapshotCache::ageSeconds)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return !ttl.isZero() && !ttl.isNegative();
+    }
+
+    public List<EmployeeDto> get(Supplier<List<EmployeeDto>> loader) {
+        if (!isEnabled()) {
+            misses.increment();
+            long startedAt = generation;
+            return remember(loader.get(), startedAt);
+        }
+        return snapshot(loader).employees();
+    }
+
+    public EmployeeNameIndex getNameIndex(Supplier<List<EmployeeDto>> loader) {
+        if (!isEnabled()) {
+            misses.increment();
+            long startedAt = generation;
+            return new EmployeeNameIndex(remember(loader.get(), startedAt));
+        }
+        return snapshot(loader).nameIndex();
+    }
+
+    public Mono<List<EmployeeDto>> getAsync(Supplier<Mono<List<EmployeeDto>>> loader) {
+        if (!isEnabled()) {
+            misses.increment();
+            return Mono.defer(() -> {
+                long startedAt = generation;
+                return loader.get().map(loaded -> remember(loaded, startedAt));
+            });
+        }
+        return snapshotAsync(loader).map(Snapshot::employees);
+    }
+
+    public Mono<EmployeeNameIndex> getNameIndexAsync(Supplier<Mono<List<EmployeeDto>>> loader) {
+        if (!isEnabled()) {
+            return getAsync(loader).map(EmployeeNameIndex::new);
+        }
+        return snapshotAsync(loader).map(Snapshot::nameIndex);
+    }
+
+    /**
+     * Drops the current snapshot so the next read waits for a load; {@link #lastGood()} is kept. Creates and deletes
+     * are applied in place, so the request path never calls this; it is for tests.
+     */
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    /** The last roster loaded from the mock server, with later creates and deletes applied, if any was loaded. */
+    public Optional<LastGood> lastGood() {
+        Snapshot current = lastGood;
+        return current == null ? Optional.empty() : Optional.of(new LastGood(current));
+    }
+
+    /** Adds an employee this service just created to the current snapshot, if there is one. */
+    public void employeeCreated(EmployeeDto created) {
+        employeesCreated(List.of(created));
+    }
+
+    public void employeesCreated(List<EmployeeDto> created) {
+        if (!created.isEmpty()) {
+            write(new Write(List.copyOf(created), Set.of()));
+        }
+    }
+
+    /** Removes employees this service just deleted by id from the current snapshot, if there is one. */
+    public void employeesDeleted(Collection<UUID> ids) {
+        if (!ids.isEmpty()) {
+            write(new Write(List.of(), Set.copyOf(ids)));
+        }
+    }
+
+    private void write(Write write) {
+        writeLock.lock();
+        try {
+            write.generation = ++generation;
+            journal.addLast(write);
+            if (journal.size() > MAX_JOURNAL) {
+                journalFloor = journal.removeFirst().generation;
+            }
+            Snapshot current = lastGood;
+            if (current != null) {
+                write.applyTo(current);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Snapshot snapshot(Supplier<List<EmployeeDto>> loader) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return load(loader);
+        }
+        if (current.isFresh(ttl)) {
+            hits.increment();
+        } else {
+            staleHits.increment();
+            refreshInBackground(loader);
+        }
+        return current;
+    }
+
+    private Mono<Snapshot> snapshotAsync(Supplier<Mono<List<EmployeeDto>>> loader) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // concurrent cold loads are coalesced by the single-flight client underneath
+            misses.increment();
+            return Mono.defer(() -> {
+                long startedAt = generation;
+                return loader.get().map(loaded -> store(loaded, startedAt));
+            });
+        }
+        if (current.isFresh(ttl)) {
+            hits.increment();
+        } else {
+            staleHits.increment();
+            if (refreshing.compareAndSet(false, true)) {
+                long startedAt = generation;
+                Mono.defer(loader)
+                        .map(loaded -> refreshed(loaded, startedAt))
+                        .doFinally(signal -> refreshing.set(false))
+                        .subscribe(refreshed -> {}, this::refreshFailed);
+            }
+        }
+        return Mono.just(current);
+    }
+
+    private Snapshot load(Supplier<List<EmployeeDto>> loader) {
+        loadLock.lock();
+        try {
+            // another caller may have completed the load while this one was waiting on the lock
+            Snapshot current = snapshot;
+            if (current != null) {
+                hits.increment();
+                return current;
+            }
+            misses.increment();
+            long startedAt = generation;
+            return store(loader.get(), startedAt);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void refreshInBackground(Supplier<List<EmployeeDto>> loader) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                long startedAt = generation;
+                refreshed(loader.get(), startedAt);
+            } catch (RuntimeException e) {
+                refreshFailed(e);
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    private Snapshot store(List<EmployeeDto> loaded, long startedAt) {
+        Snapshot stored = keep(loaded, startedAt);
+        snapshot = stored;
+        return stored;
+    }
+
+    private List<EmployeeDto> remember(List<EmployeeDto> loaded, long startedAt) {
+        keep(loaded, startedAt);
+        return loaded;
+    }
+
+    /**
+     * Makes a roster loaded from write generation {@code startedAt} on the last good snapshot, with the journaled
+     * writes it may have missed re-applied, and returns it. A roster that started loading before the last good one, or
+     * before writes no longer journaled, is dropped and the last good snapshot is returned instead.
+     */
+    private Snapshot keep(List<EmployeeDto> loaded, long startedAt) {
+        writeLock.lock();
+        try {
+            Snapshot current = lastGood;
+            if (current != null && (startedAt < lastGoodGeneration || startedAt < journalFloor)) {
+                return current;
+            }
+            Snapshot kept = new Snapshot(List.copyOf(loaded), System.nanoTime());
+            for (Write write : journal) {
+                if (write.generation > startedAt) {
+                    write.applyTo(kept);
+                }
+            }
+            // loads that started earlier are dropped from now on, so none of them needs these writes
+            journal.removeIf(write -> write.generation <= startedAt);
+            lastGood = kept;
+            lastGoodGeneration = startedAt;
+            return kept;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Snapshot refreshed(List<EmployeeDto> loaded, long startedAt) {
+        Snapshot stored = store(loaded, startedAt);
+        refreshes.increment();
+        return stored;
+    }
+
+    private void refreshFailed(Throwable e) {
+        refreshFailures.increment();
+        log.warn("Background refresh of employee snapshot failed, keep serving stale data: {}", e.getMessage());
+    }
+
+    private double ageSeconds() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : (System.nanoTime() - current.loadedAtNanos) / 1_000_000_000d;
+    }
+
+    /** Creates and deletes made through this service, journaled until no load can have missed them. */
+    private static final class Write {
+
+        private final List<EmployeeDto> created;
+        private final Set<UUID> deleted;
+        private long generation;
+
+        private Write(List<EmployeeDto> created, Set<UUID> deleted) {
+            this.created = created;
+            this.deleted = deleted;
+        }
+
+        void applyTo(Snapshot target) {
+            if (!created.isEmpty()) {
+                target.addAll(created);
+            }
+            if (!deleted.isEmpty()) {
+                target.removeAll(deleted);
+            }
+        }
+    }
+
+    /** A read-only view of the last good snapshot. */
+    public static final class LastGood {
+
+        private final Snapshot snapshot;
+
+        private LastGood(Snapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        public List<EmployeeDto> employees() {
+            return snapshot.employees();
+        }
+
+        public EmployeeNameIndex nameIndex() {
+            return snapshot.nameIndex();
+        }
+
+        public Optional<EmployeeDto> findById(String id) {
+            try {
+                return snapshot.findById(UUID.fromString(id));
+            } catch (IllegalArgumentException e) {
+                return Optional.empty();
+            }
+        }
+
+        public Optional<Integer> highestSalary() {
+            return snapshot.employees().stream()
+                    .map(employee -> employee.getData().getSalary())
+                    .max(Integer::compare);
+        }
+
+        public long ageSeconds() {
+            return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - snapshot.loadedAtNanos);
+        }
+    }
+
+    /*
+     * Employees sit in slots in roster order, found by id through their ordinal. A create appends a slot and a delete
+     * clears one, so ordinals stay stable and a write costs O(1) per employee written. Readers get an immutable list
+     * of the filled slots, built on the first read after a write. Writes, that build and the lazy index build are
+     * serialized on the snapshot, so neither the list nor the index misses a write.
+     */
+    private static final class Snapshot {
+
+        private final long loadedAtNanos;
+        private final List<EmployeeDto> slots;
+        private final Map<UUID, Integer> ordinalsById;
+        private volatile List<EmployeeDto> employees;
+        private volatile EmployeeNameIndex nameIndex;
+
+        Snapshot(List<EmployeeDto> employees, long loadedAtNanos) {
+            this.loadedAtNanos = loadedAtNanos;
+            this.employees = employees;
+            this.slots = new ArrayList<>(employees);
+            this.ordinalsById = new HashMap<>();
+            for (int ordinal = 0; ordinal < slots.size(); ordinal++) {
+                ordinalsById.putIfAbsent(slots.get(ordinal).getData().getId(), ordinal);
+            }
+        }
+
+        boolean isFresh(Duration ttl) {
+            return System.nanoTime() - loadedAtNanos < ttl.toNanos();
+        }
+
+        List<EmployeeDto> employees() {
+            List<EmployeeDto> current = employees;
+            if (current != null) {
+                return current;
+            }
+            synchronized (this) {
+                if (employees == null) {
+                    employees = slots.stream().filter(Objects::nonNull).toList();
+                }
+                return employees;
+            }
+        }
+
+        synchronized Optional<EmployeeDto> findById(UUID id) {
+            Integer ordinal = ordinalsById.get(id);
+            return ordinal == null ? Optional.empty() : Optional.of(slots.get(ordinal));
+        }
+
+        EmployeeNameIndex nameIndex() {
+            EmployeeNameIndex index = nameIndex;
+            if (index != null) {
+                return index;
+            }
+            synchronized (this) {
+                if (nameIndex == null) {
+                    nameIndex = new EmployeeNameIndex(employees());
+                }
+                return nameIndex;
+            }
+        }
+
+        /** Skips employees already present, as a load may have fetched them after they were created. */
+        synchronized void addAll(List<EmployeeDto> created) {
+            for (EmployeeDto employee : created) {
+                if (ordinalsById.putIfAbsent(employee.getData().getId(), slots.size()) != null) {
+                    continue;
+                }
+                slots.add(employee);
+                employees = null;
+                if (nameIndex != null) {
+                    nameIndex.add(employee);
+                }
+            }
+        }
+
+        synchronized void removeAll(Collection<UUID> ids) {
+            for (UUID id : ids) {
+                Integer ordinal = ordinalsById.remove(id);
+                if (ordinal == null) {
+                    continue;
+                }
+                slots.set(ordinal, null);
+                employees = null;
+                if (nameIndex != null) {
+                    nameIndex.remove(id);
+                }
+            }
+        }
+    }
+}
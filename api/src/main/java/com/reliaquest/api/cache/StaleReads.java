@@ -0,0 +1,44 @@
+package com.reliaquest.api.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import reactor.core.publisher.Mono;
+
+/**
+ * Flags a response as served from an old roster snapshot because the mock server could not be asked. Such responses
+ * carry {@code Age} with the snapshot's age in seconds and {@code Warning: 110 - "Response is Stale"}.
+ *
+ * <p>The blocking path flags the current request's attributes, the reactive path an {@link AtomicLong} a web filter
+ * put into the Reactor context; the controller layer turns either into the headers.
+ */
+public final class StaleReads {
+
+    public static final String ATTRIBUTE = StaleReads.class.getName() + ".ageSeconds";
+    public static final String WARNING = "Warning";
+    public static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    private StaleReads() {}
+
+    /** Flags the request the current thread is serving, if any. */
+    public static void mark(long ageSeconds) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(ATTRIBUTE, ageSeconds, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /** Emits {@code value}, flagging the exchange whose context it is subscribed in, if any. */
+    public static <T> Mono<T> served(T value, long ageSeconds) {
+        return Mono.deferContextual(context -> {
+            context.<AtomicLong>getOrEmpty(ATTRIBUTE).ifPresent(age -> age.set(ageSeconds));
+            return Mono.just(value);
+        });
+    }
+
+    public static void addHeaders(HttpHeaders headers, long ageSeconds) {
+        headers.set(HttpHeaders.AGE, Long.toString(ageSeconds));
+        headers.set(WARNING, STALE_WARNING);
+    }
+}
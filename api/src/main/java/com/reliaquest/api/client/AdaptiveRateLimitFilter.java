@@ -0,0 +1,84 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puts every upstream request through an {@link AdaptiveRateLimiter} and feeds the responses back into it.
+ *
+ * <p>A shed request fails with the same {@link WebClientResponseException.TooManyRequests} the server would have
+ * answered with, including a {@code Retry-After} for the time left until the limiter's window reopens, so callers
+ * handle local and upstream throttling the same way.
+ */
+public class AdaptiveRateLimitFilter implements ExchangeFilterFunction {
+
+    private final AdaptiveRateLimiter rateLimiter;
+    private final Counter shed;
+    private final Counter throttled;
+
+    public AdaptiveRateLimitFilter(AdaptiveRateLimiter rateLimiter, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.shed = Counter.builder("employee.client.limiter.shed").register(meterRegistry);
+        this.throttled = Counter.builder("employee.client.limiter.throttled").register(meterRegistry);
+        Gauge.builder("employee.client.limiter.queued", rateLimiter, AdaptiveRateLimiter::getQueued)
+                .register(meterRegistry);
+        Gauge.builder("employee.client.limiter.queue.capacity", rateLimiter, AdaptiveRateLimiter::getMaxQueueSize)
+                .register(meterRegistry);
+        Gauge.builder("employee.client.limiter.budget", rateLimiter, AdaptiveRateLimiter::getBudget)
+                .register(meterRegistry);
+        Gauge.builder("employee.client.limiter.cooldown", rateLimiter, AdaptiveRateLimiter::getCooldownMillis)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            long waitMillis = rateLimiter.tryAcquire();
+            if (waitMillis == AdaptiveRateLimiter.SHED) {
+                shed.increment();
+                return Mono.error(shedResponse());
+            }
+            Mono<ClientResponse> exchange = next.exchange(request).doOnNext(this::observe);
+            if (waitMillis == 0) {
+                return exchange;
+            }
+            return Mono.delay(Duration.ofMillis(waitMillis))
+                    .doFinally(signal -> rateLimiter.dequeued())
+                    .then(exchange);
+        });
+    }
+
+    private void observe(ClientResponse response) {
+        if (response.statusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            throttled.increment();
+            rateLimiter.onThrottled(UpstreamBackoff.retryAfterMillis(response.headers().asHttpHeaders()));
+        } else {
+            rateLimiter.onSuccess();
+        }
+    }
+
+    private WebClientResponseException shedResponse() {
+        HttpHeaders headers = new HttpHeaders();
+        // whole seconds until the window reopens, rounded up so a retry at that time is not shed again
+        long retryAfterSeconds = Math.max(1, (rateLimiter.getRemainingWaitMillis() + 999) / 1000);
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return WebClientResponseException.create(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests (shed by client-side rate limiter)",
+                headers,
+                new byte[0],
+                StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,165 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side model of the mock server's request limit: a budget of requests per window followed by a cooldown.
+ *
+ * <p>Both numbers are learned from responses. A 429 shrinks the budget to what actually succeeded in the current
+ * window and starts a cooldown, taken from {@code Retry-After} when the server sends one. Without it, a 429 before
+ * anything succeeded after a cooldown means the cooldown was too short, so it doubles. Only a 429 closes the window:
+ * spending the whole budget without one doubles the budget and keeps admitting, so an upstream that does not throttle
+ * never has a request delayed, and the limit is probed from both sides.
+ *
+ * <p>Requests arriving while the window is closed are queued until it reopens when that is within {@code maxWait}
+ * and there is room left in both the next window's budget and the queue, otherwise they are shed.
+ */
+public class AdaptiveRateLimiter {
+
+    public static final long SHED = -1;
+
+    private static final int MAX_BUDGET = 1_000;
+
+    private final long maxCooldownMillis;
+    private final long maxWaitMillis;
+    private final int maxQueueSize;
+    private final LongSupplier clock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private int budget;
+    private long cooldownMillis;
+    private long windowOpensAt;
+    private int admitted;
+    private int succeeded;
+    private int queued;
+    private boolean probing;
+
+    public AdaptiveRateLimiter(
+            int initialBudget, Duration initialCooldown, Duration maxCooldown, Duration maxWait, int maxQueueSize) {
+        this(initialBudget, initialCooldown, maxCooldown, maxWait, maxQueueSize, System::currentTimeMillis);
+    }
+
+    AdaptiveRateLimiter(
+            int initialBudget,
+            Duration initialCooldown,
+            Duration maxCooldown,
+            Duration maxWait,
+            int maxQueueSize,
+            LongSupplier clock) {
+        this.budget = initialBudget;
+        this.cooldownMillis = initialCooldown.toMillis();
+        this.maxCooldownMillis = maxCooldown.toMillis();
+        this.maxWaitMillis = maxWait.toMillis();
+        this.maxQueueSize = maxQueueSize;
+        this.clock = clock;
+    }
+
+    /**
+     * @return {@code 0} to send right away, a positive delay in millis to send once the window reopens (the caller is
+     *     then queued until it calls {@link #dequeued()}), or {@link #SHED} to not send at all
+     */
+    public long tryAcquire() {
+        lock.lock();
+        try {
+            long now = clock.getAsLong();
+            if (now >= windowOpensAt) {
+                if (admitted >= budget) {
+                    // budget spent without a 429: the server allows more than learned so far
+                    budget = Math.min(MAX_BUDGET, budget * 2);
+                }
+                admitted = Math.min(admitted + 1, budget);
+                return 0;
+            }
+            long waitMillis = windowOpensAt - now;
+            if (waitMillis > maxWaitMillis || admitted >= budget || queued >= maxQueueSize) {
+                return SHED;
+            }
+            admitted++;
+            queued++;
+            return waitMillis;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void dequeued() {
+        lock.lock();
+        try {
+            queued--;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            if (clock.getAsLong() >= windowOpensAt) {
+                succeeded++;
+                probing = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param retryAfterMillis cooldown announced by the server, negative when it did not send one
+     */
+    public void onThrottled(long retryAfterMillis) {
+        lock.lock();
+        try {
+            long now = clock.getAsLong();
+            if (now < windowOpensAt) {
+                // a straggler from the window that is already cooling down
+                return;
+            }
+            if (retryAfterMillis >= 0) {
+                cooldownMillis = Math.min(maxCooldownMillis, retryAfterMillis);
+            } else if (probing) {
+                cooldownMillis = Math.min(maxCooldownMillis, cooldownMillis * 2);
+            }
+            if (succeeded > 0) {
+                budget = succeeded;
+            }
+            closeWindow(now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public long getCooldownMillis() {
+        return cooldownMillis;
+    }
+
+    /** Millis until the current window reopens, {@code 0} while it is open. */
+    public long getRemainingWaitMillis() {
+        lock.lock();
+        try {
+            return Math.max(0, windowOpensAt - clock.getAsLong());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued() {
+        return queued;
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    private void closeWindow(long now) {
+        windowOpensAt = now + cooldownMillis;
+        admitted = 0;
+        succeeded = 0;
+        probing = true;
+    }
+}
@@ -0,0 +1,48 @@
+package com.reliaquest.api.client;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import java.util.concurrent.TimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puts every upstream request through a resilience4j {@link CircuitBreaker}. Throttling and outages count as failures:
+ * a 429 answer, a 429 shed by the {@link AdaptiveRateLimitFilter} inside it, connection errors and timeouts. Any other
+ * answer, 404 and 5xx included, shows the mock server is there and counts as a success.
+ *
+ * <p>Once failures pass the threshold the breaker opens and calls fail at once with
+ * {@link CallNotPermittedException}, without a connection or a slot in the rate limiter, until it lets a few probe
+ * calls through again.
+ */
+public class CircuitBreakerFilter implements ExchangeFilterFunction {
+
+    private final CircuitBreaker circuitBreaker;
+
+    public CircuitBreakerFilter(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return next.exchange(request).transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    public static boolean isThrottled(Object result) {
+        return result instanceof ClientResponse response
+                && response.statusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    public static boolean isOutage(Throwable failure) {
+        return failure instanceof WebClientResponseException.TooManyRequests
+                || failure instanceof WebClientRequestException
+                || failure instanceof TimeoutException;
+    }
+}
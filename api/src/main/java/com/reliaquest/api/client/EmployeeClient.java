@@ -0,0 +1,170 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.Exception.EmployeeNotFoundException;
+import com.reliaquest.api.dto.CreateEmployeeDto;
+import com.reliaquest.api.dto.DeleteEmployeeDto;
+import com.reliaquest.api.dto.EmployeeData;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.model.BatchResponse;
+import com.reliaquest.api.model.EmployeeDeleteModel;
+import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.api.model.HighestSalaryResponse;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Thin reactive client for the mock employee server. Concurrent reads of the same resource share a single upstream
+ * request, writes always go out on their own.
+ */
+@Component
+public class EmployeeClient {
+
+    /** Relative to {@code employee.client.base-url}, which {@code WebClientConfig} sets on the {@link WebClient}. */
+    private static final String EMPLOYEES = "/api/v1/employee";
+
+    private static final String ALL_EMPLOYEES = "all";
+    private static final String HIGHEST_SALARY = "highest-salary";
+    private static final String NAME_SEARCH = "search:";
+    private static final ParameterizedTypeReference<BatchResponse<EmployeeData>> CREATED_BATCH =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<BatchResponse<Boolean>> DELETED_BATCH =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final SingleFlight<String, EmployeeResponse> employeeListFlight = new SingleFlight<>();
+    private final SingleFlight<String, EmployeeDto> employeeFlight = new SingleFlight<>();
+    private final SingleFlight<String, Integer> highestSalaryFlight = new SingleFlight<>();
+
+    public EmployeeClient(WebClient webClient, ObjectMapper objectMapper) {
+        this.webClient = webClient;
+        this.objectMapper = objectMapper;
+    }
+
+    public Mono<EmployeeResponse> getAllEmployees() {
+        return employeeListFlight.execute(ALL_EMPLOYEES, () -> webClient
+                .get()
+                .uri(EMPLOYEES)
+                .retrieve()
+                .bodyToMono(EmployeeResponse.class));
+    }
+
+    /**
+     * Lets the mock server filter the list to employees whose name contains {@code name}, ignoring case, so only the
+     * matches are transferred and decoded.
+     */
+    public Mono<EmployeeResponse> searchEmployeesByName(String name) {
+        return employeeListFlight.execute(NAME_SEARCH + name, () -> webClient
+                .get()
+                .uri(EMPLOYEES + "?name={name}", name)
+                .retrieve()
+                .bodyToMono(EmployeeResponse.class));
+    }
+
+    /**
+     * Emits the employees of the list endpoint one at a time while the body is still arriving, for aggregations that
+     * do not need the whole roster in memory. Each subscription sends its own request. Always asks for JSON, which
+     * {@link EmployeeStreamDecoder} parses incrementally, whatever {@code employee.client.wire-format} says.
+     */
+    public Flux<EmployeeData> streamAllEmployees() {
+        return Flux.defer(() -> {
+            EmployeeStreamDecoder decoder = new EmployeeStreamDecoder(objectMapper);
+            return webClient
+                    .get()
+                    .uri(EMPLOYEES)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .retrieve()
+                    .bodyToFlux(DataBuffer.class)
+                    .concatMapIterable(decoder::decode)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(decoder.endOfInput())));
+        });
+    }
+
+    /**
+     * Reads the highest salary from the mock server's incrementally maintained stats instead of pulling the roster.
+     * Completes empty when there are no employees.
+     */
+    public Mono<Integer> getHighestSalary() {
+        return highestSalaryFlight.execute(HIGHEST_SALARY, () -> webClient
+                .get()
+                .uri(EMPLOYEES + "/stats/highest-salary")
+                .retrieve()
+                // a 404 carries an empty Response, so decode it like a success and let the missing data complete empty
+                .onStatus(status -> status.value() == HttpStatus.NOT_FOUND.value(), clientResponse -> Mono.empty())
+                .bodyToMono(HighestSalaryResponse.class)
+                .mapNotNull(HighestSalaryResponse::getData));
+    }
+
+    public Mono<EmployeeDto> getEmployeeById(String id) {
+        return employeeFlight.execute(id, () -> webClient
+                .get()
+                .uri(EMPLOYEES + "/" + id)
+                .retrieve()
+                .onStatus(
+                        status -> status.is4xxClientError() && status.value() != HttpStatus.TOO_MANY_REQUESTS.value(),
+                        clientResponse ->
+                                Mono.error(new EmployeeNotFoundException("Employee not found with id: " + id)))
+                .bodyToMono(EmployeeDto.class));
+    }
+
+    public Mono<EmployeeDto> createEmployee(CreateEmployeeDto createEmployeeDTO) {
+        return webClient
+                .post()
+                .uri(EMPLOYEES)
+                .bodyValue(createEmployeeDTO)
+                .retrieve()
+                .bodyToMono(EmployeeDto.class);
+    }
+
+    /** Deletes exactly the employee with this id in one request, errors with {@link EmployeeNotFoundException}. */
+    public Mono<EmployeeDto> deleteEmployeeById(String id) {
+        return webClient
+                .delete()
+                .uri(EMPLOYEES + "/" + id)
+                .retrieve()
+                .onStatus(
+                        status -> status.is4xxClientError() && status.value() != HttpStatus.TOO_MANY_REQUESTS.value(),
+                        clientResponse ->
+                                Mono.error(new EmployeeNotFoundException("Employee not found with id: " + id)))
+                .bodyToMono(EmployeeDto.class);
+    }
+
+    public Mono<EmployeeDeleteModel> deleteEmployee(DeleteEmployeeDto deleteEmployeeDto) {
+        return webClient
+                .method(HttpMethod.DELETE)
+                .uri(EMPLOYEES)
+                .bodyValue(deleteEmployeeDto)
+                .retrieve()
+                .bodyToMono(EmployeeDeleteModel.class);
+    }
+
+    /** Creates all employees with one upstream request. The response has one result per input, in order. */
+    public Mono<BatchResponse<EmployeeData>> createEmployees(List<CreateEmployeeDto> createEmployeeDtos) {
+        return webClient
+                .post()
+                .uri(EMPLOYEES + "/batch")
+                .bodyValue(createEmployeeDtos)
+                .retrieve()
+                .bodyToMono(CREATED_BATCH);
+    }
+
+    /** Deletes all employees by id with one upstream request. The response has one result per id, in order. */
+    public Mono<BatchResponse<Boolean>> deleteEmployees(List<UUID> ids) {
+        return webClient
+                .method(HttpMethod.DELETE)
+                .uri(EMPLOYEES + "/batch")
+                .bodyValue(ids)
+                .retrieve()
+                .bodyToMono(DELETED_BATCH);
+    }
+}
@@ -0,0 +1,90 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.reliaquest.api.dto.EmployeeData;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+/**
+ * Incrementally decodes the elements of the {@code data} array of the mock server's employee list as the body
+ * arrives, using Jackson's non-blocking parser. Only the employee currently being parsed is buffered, so memory does
+ * not grow with the size of the roster. One instance per response, not thread-safe.
+ */
+class EmployeeStreamDecoder {
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private int depth;
+    private boolean inData;
+    private TokenBuffer element;
+
+    EmployeeStreamDecoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    List<EmployeeData> decode(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            feeder.feedInput(bytes, 0, bytes.length);
+            return drain();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    List<EmployeeData> endOfInput() {
+        feeder.endOfInput();
+        try {
+            return drain();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<EmployeeData> drain() throws IOException {
+        List<EmployeeData> decoded = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (element != null) {
+                element.copyCurrentEvent(parser);
+            }
+            if (token.isStructStart()) {
+                if (inData && depth == 2 && token == JsonToken.START_OBJECT) {
+                    element = new TokenBuffer(parser);
+                    element.copyCurrentEvent(parser);
+                } else if (depth == 1 && token == JsonToken.START_ARRAY && "data".equals(parser.currentName())) {
+                    inData = true;
+                }
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+                if (element != null && depth == 2) {
+                    decoded.add(objectMapper.readValue(element.asParser(objectMapper), EmployeeData.class));
+                    element = null;
+                } else if (inData && depth == 1) {
+                    inData = false;
+                }
+            }
+        }
+        return decoded;
+    }
+}
@@ -0,0 +1,54 @@
+package com.reliaquest.api.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps retries of upstream calls at a fixed share of the calls themselves. Every call deposits {@code ratio} of a retry
+ * and every retry withdraws a whole one, so over any stretch of traffic retries stay below {@code ratio} times the
+ * calls plus the {@code maxRetries} that can be banked. It starts with those banked, so a quiet service can still
+ * retry its first throttled call, but a throttling storm drains it within a few calls instead of multiplying them.
+ *
+ * <p>Shared by all callers and lock-free; the balance is kept in thousandths of a retry.
+ */
+public class RetryBudget {
+
+    private static final long SCALE = 1_000;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    public RetryBudget(double ratio, int maxRetries) {
+        if (ratio < 0 || ratio > 1 || maxRetries < 0) {
+            throw new IllegalArgumentException("ratio must be in [0, 1] and max retries must not be negative");
+        }
+        this.deposit = Math.round(ratio * SCALE);
+        this.capacity = maxRetries * SCALE;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    /** Records one call, which earns {@code ratio} of a retry. */
+    public void onCall() {
+        long current;
+        do {
+            current = balance.get();
+        } while (current < capacity && !balance.compareAndSet(current, Math.min(capacity, current + deposit)));
+    }
+
+    /** @return whether a retry may be sent, withdrawing it from the budget if so */
+    public boolean tryRetry() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    /** Retries that may currently be sent, including fractions earned towards the next one. */
+    public double getAvailable() {
+        return (double) balance.get() / SCALE;
+    }
+}
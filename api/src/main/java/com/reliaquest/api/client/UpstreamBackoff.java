@@ -0,0 +1,72 @@
+package com.reliaquest.api.client;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * How long to wait before retrying a throttled upstream call. A {@code Retry-After} the response carries is honoured,
+ * plus up to {@code base} of jitter so callers told the same moment do not all return at it; one longer than
+ * {@code maxRetryAfter} is not waited out at all, the call gives up instead of parking a thread for it. Without one,
+ * delays follow decorrelated jitter: each is drawn between {@code base} and three times the previous, capped at
+ * {@code max}, so callers throttled together drift apart rather than retrying in lockstep.
+ */
+public class UpstreamBackoff {
+
+    private final long baseMillis;
+    private final long maxMillis;
+    private final long maxRetryAfterMillis;
+
+    public UpstreamBackoff(Duration base, Duration max, Duration maxRetryAfter) {
+        if (base.isNegative() || base.isZero() || max.compareTo(base) < 0 || maxRetryAfter.isNegative()) {
+            throw new IllegalArgumentException(
+                    "base must be positive, max at least base and max Retry-After not negative");
+        }
+        this.baseMillis = base.toMillis();
+        this.maxMillis = max.toMillis();
+        this.maxRetryAfterMillis = maxRetryAfter.toMillis();
+    }
+
+    /**
+     * @param previousDelayMillis the delay before the previous retry of this call, {@code 0} before the first
+     */
+    public long nextDelayMillis(Throwable failure, long previousDelayMillis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long retryAfter = retryAfterMillis(failure);
+        if (retryAfter >= 0) {
+            return retryAfter + random.nextLong(baseMillis + 1);
+        }
+        long upper = Math.max(baseMillis, previousDelayMillis) * 3;
+        return Math.min(maxMillis, random.nextLong(baseMillis, upper + 1));
+    }
+
+    /** @return whether the failure asks for a longer wait than is worth retrying after */
+    public boolean waitsTooLong(Throwable failure) {
+        return retryAfterMillis(failure) > maxRetryAfterMillis;
+    }
+
+    static long retryAfterMillis(Throwable failure) {
+        return failure instanceof WebClientResponseException response ? retryAfterMillis(response.getHeaders()) : -1;
+    }
+
+    /** @return the wait {@code Retry-After} asks for, in delta-seconds or HTTP-date form, or {@code -1} without one */
+    public static long retryAfterMillis(HttpHeaders headers) {
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null) {
+            return -1;
+        }
+        try {
+            return Math.max(0, Duration.ofSeconds(Long.parseLong(retryAfter.trim())).toMillis());
+        } catch (NumberFormatException e) {
+            try {
+                Instant at = headers.getFirstZonedDateTime(HttpHeaders.RETRY_AFTER).toInstant();
+                return Math.max(0, Duration.between(Instant.now(), at).toMillis());
+            } catch (IllegalArgumentException | DateTimeException unparseable) {
+                return -1;
+            }
+        }
+    }
+}
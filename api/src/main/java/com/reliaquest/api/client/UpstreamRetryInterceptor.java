@@ -0,0 +1,155 @@
+package com.reliaquest.api.client;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.classify.BinaryExceptionClassifier;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryPolicy;
+import org.springframework.retry.annotation.RecoverAnnotationRecoveryHandler;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.retry.backoff.BackOffContext;
+import org.springframework.retry.backoff.BackOffInterruptedException;
+import org.springframework.retry.backoff.BackOffPolicy;
+import org.springframework.retry.backoff.Sleeper;
+import org.springframework.retry.backoff.ThreadWaitSleeper;
+import org.springframework.retry.interceptor.RetryInterceptorBuilder;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+import org.springframework.retry.support.RetryTemplate;
+
+/**
+ * Retry interceptor for the {@code @Retryable} methods that name it as their {@code interceptor}. Spring Retry builds
+ * a backoff only from {@code @Backoff}'s fixed numbers, so this builds each method's {@link RetryTemplate} the way
+ * Spring Retry would, from the annotation's {@code retryFor} and {@code maxAttempts} and the class's {@code @Recover}
+ * methods, but spaces the retries with {@link UpstreamBackoff} and pays for each from the shared {@link RetryBudget}.
+ *
+ * <p>A failure whose {@code Retry-After} is too long to wait, or that finds the budget empty, is not retried and goes
+ * straight to the {@code @Recover} method. A failure {@code retryFor} does not cover, such as the circuit breaker's
+ * rejection, skips the {@code @Recover} methods and propagates as thrown.
+ */
+public class UpstreamRetryInterceptor implements MethodInterceptor {
+
+    public static final String BEAN_NAME = "upstreamRetryInterceptor";
+
+    private final UpstreamBackoff backoff;
+    private final RetryBudget budget;
+    private final Sleeper sleeper;
+    private final ConcurrentMap<Method, MethodInterceptor> delegates = new ConcurrentHashMap<>();
+
+    public UpstreamRetryInterceptor(UpstreamBackoff backoff, RetryBudget budget) {
+        this(backoff, budget, new ThreadWaitSleeper());
+    }
+
+    UpstreamRetryInterceptor(UpstreamBackoff backoff, RetryBudget budget, Sleeper sleeper) {
+        this.backoff = backoff;
+        this.budget = budget;
+        this.sleeper = sleeper;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        return delegates
+                .computeIfAbsent(invocation.getMethod(), method -> delegate(invocation.getThis(), method))
+                .invoke(invocation);
+    }
+
+    private MethodInterceptor delegate(Object target, Method method) {
+        Retryable retryable = AnnotatedElementUtils.findMergedAnnotation(method, Retryable.class);
+        if (retryable == null) {
+            return MethodInvocation::proceed;
+        }
+        Map<Class<? extends Throwable>, Boolean> retryFor = new HashMap<>();
+        for (Class<? extends Throwable> type : retryable.retryFor()) {
+            retryFor.put(type, true);
+        }
+        RetryTemplate template = new RetryTemplate();
+        template.setRetryPolicy(new BudgetedRetryPolicy(
+                retryFor.isEmpty()
+                        ? new SimpleRetryPolicy(retryable.maxAttempts())
+                        : new SimpleRetryPolicy(retryable.maxAttempts(), retryFor, true),
+                new BinaryExceptionClassifier(retryFor, retryFor.isEmpty(), true)));
+        template.setBackOffPolicy(new UpstreamBackOffPolicy());
+        return RetryInterceptorBuilder.stateless()
+                .retryOperations(template)
+                .recoverer(new RecoverAnnotationRecoveryHandler<>(target, method))
+                .build();
+    }
+
+    /**
+     * Counts every call towards the budget, vetoes the retries it cannot pay for or should not wait for, and keeps
+     * failures that are not {@code recoverable} away from the {@code @Recover} methods.
+     */
+    private final class BudgetedRetryPolicy implements RetryPolicy {
+
+        private final RetryPolicy delegate;
+        private final BinaryExceptionClassifier recoverable;
+
+        private BudgetedRetryPolicy(RetryPolicy delegate, BinaryExceptionClassifier recoverable) {
+            this.delegate = delegate;
+            this.recoverable = recoverable;
+        }
+
+        @Override
+        public RetryContext open(RetryContext parent) {
+            budget.onCall();
+            return delegate.open(parent);
+        }
+
+        @Override
+        public boolean canRetry(RetryContext context) {
+            return delegate.canRetry(context);
+        }
+
+        @Override
+        public void close(RetryContext context) {
+            delegate.close(context);
+        }
+
+        @Override
+        public void registerThrowable(RetryContext context, Throwable throwable) {
+            delegate.registerThrowable(context, throwable);
+            if (!recoverable.classify(throwable)) {
+                context.setAttribute(RetryContext.NO_RECOVERY, true);
+            }
+            // checked once per failure, canRetry is asked more than once per attempt
+            if (delegate.canRetry(context) && (backoff.waitsTooLong(throwable) || !budget.tryRetry())) {
+                context.setExhaustedOnly();
+            }
+        }
+    }
+
+    private final class UpstreamBackOffPolicy implements BackOffPolicy {
+
+        @Override
+        public BackOffContext start(RetryContext context) {
+            return new Delay(context);
+        }
+
+        @Override
+        public void backOff(BackOffContext backOffContext) throws BackOffInterruptedException {
+            Delay delay = (Delay) backOffContext;
+            delay.millis = backoff.nextDelayMillis(delay.context.getLastThrowable(), delay.millis);
+            try {
+                sleeper.sleep(delay.millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BackOffInterruptedException("Thread interrupted while sleeping", e);
+            }
+        }
+    }
+
+    private static final class Delay implements BackOffContext {
+
+        private final RetryContext context;
+        private long millis;
+
+        private Delay(RetryContext context) {
+            this.context = context;
+        }
+    }
+}
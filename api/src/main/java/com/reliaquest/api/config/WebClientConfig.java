@@ -1,17 +1,209 @@
 package com.reliaquest.api.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.client.AdaptiveRateLimitFilter;
+import com.reliaquest.api.client.AdaptiveRateLimiter;
+import com.reliaquest.api.client.CircuitBreakerFilter;
+import com.reliaquest.api.client.RetryBudget;
+import com.reliaquest.api.client.UpstreamBackoff;
+import com.reliaquest.api.client.UpstreamRetryInterceptor;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClient.Builder;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+@Slf4j
 @Configuration
 @EnableRetry
 public class WebClientConfig {
 
+    // JSON stays acceptable, so routes or servers without the binary format still answer
+    private static final String SMILE_FIRST = "application/x-jackson-smile, application/json;q=0.9";
+    private static final String CBOR_FIRST = MediaType.APPLICATION_CBOR_VALUE + ", application/json;q=0.9";
+    private static final String CLIENT_ID = "X-Client-Id";
+
+    @Bean
+    public AdaptiveRateLimiter adaptiveRateLimiter(
+            @Value("${employee.client.rate-limit.initial-budget:10}") int initialBudget,
+            @Value("${employee.client.rate-limit.initial-cooldown:30s}") Duration initialCooldown,
+            @Value("${employee.client.rate-limit.max-cooldown:120s}") Duration maxCooldown,
+            @Value("${employee.client.rate-limit.max-wait:5s}") Duration maxWait,
+            @Value("${employee.client.rate-limit.max-queue-size:100}") int maxQueueSize) {
+        return new AdaptiveRateLimiter(initialBudget, initialCooldown, maxCooldown, maxWait, maxQueueSize);
+    }
+
+    @Bean
+    public UpstreamBackoff upstreamBackoff(
+            @Value("${employee.client.retry.base-delay:200ms}") Duration baseDelay,
+            @Value("${employee.client.retry.max-delay:5s}") Duration maxDelay,
+            @Value("${employee.client.retry.max-retry-after:5s}") Duration maxRetryAfter) {
+        return new UpstreamBackoff(baseDelay, maxDelay, maxRetryAfter);
+    }
+
+    @Bean
+    public RetryBudget retryBudget(
+            @Value("${employee.client.retry.budget.ratio:0.1}") double ratio,
+            @Value("${employee.client.retry.budget.max-retries:10}") int maxRetries,
+            MeterRegistry meterRegistry) {
+        RetryBudget retryBudget = new RetryBudget(ratio, maxRetries);
+        Gauge.builder("employee.client.retry.budget", retryBudget, RetryBudget::getAvailable)
+                .register(meterRegistry);
+        return retryBudget;
+    }
+
+    @Bean(UpstreamRetryInterceptor.BEAN_NAME)
+    public UpstreamRetryInterceptor upstreamRetryInterceptor(UpstreamBackoff upstreamBackoff, RetryBudget retryBudget) {
+        return new UpstreamRetryInterceptor(upstreamBackoff, retryBudget);
+    }
+
+    /**
+     * Breaker in front of the mock server, see {@link CircuitBreakerFilter}. Its state and call outcomes are published
+     * as the {@code resilience4j.circuitbreaker.*} meters.
+     */
+    @Bean
+    public CircuitBreaker employeeCircuitBreaker(
+            @Value("${employee.client.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${employee.client.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${employee.client.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+            @Value("${employee.client.circuit-breaker.wait-duration-in-open-state:30s}") Duration openWaitDuration,
+            @Value("${employee.client.circuit-breaker.permitted-calls-in-half-open-state:3}")
+                    int permittedCallsInHalfOpenState,
+            MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .waitDurationInOpenState(openWaitDuration)
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                .recordResult(CircuitBreakerFilter::isThrottled)
+                .recordException(CircuitBreakerFilter::isOutage)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        CircuitBreaker circuitBreaker = registry.circuitBreaker("employee-client");
+        circuitBreaker
+                .getEventPublisher()
+                .onStateTransition(event -> log.warn("Employee client circuit breaker {}", event.getStateTransition()));
+        return circuitBreaker;
+    }
+
+    /**
+     * Pooled connections to the mock server. With metrics on, Reactor Netty publishes the
+     * {@code reactor.netty.connection.provider.*} gauges (active, idle, pending, max) to the global Micrometer
+     * registry, which Spring Boot composes into the actuator's.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider employeeConnectionProvider(
+            @Value("${employee.client.http.max-connections:50}") int maxConnections,
+            @Value("${employee.client.http.pending-acquire-max-count:500}") int pendingAcquireMaxCount,
+            @Value("${employee.client.http.pending-acquire-timeout:5s}") Duration pendingAcquireTimeout,
+            @Value("${employee.client.http.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${employee.client.http.max-life-time:5m}") Duration maxLifeTime,
+            @Value("${employee.client.http.evict-in-background:30s}") Duration evictInBackground) {
+        return ConnectionProvider.builder("employee-client")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInBackground)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public HttpClient employeeHttpClient(
+            ConnectionProvider employeeConnectionProvider,
+            @Value("${employee.client.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${employee.client.http.read-timeout:10s}") Duration readTimeout,
+            @Value("${employee.client.http.response-timeout:10s}") Duration responseTimeout,
+            @Value("${employee.client.http.keep-alive:true}") boolean keepAlive,
+            @Value("${employee.client.http.compress:true}") boolean compress,
+            @Value("${employee.client.http.h2c:false}") boolean h2c) {
+        HttpClient httpClient = HttpClient.create(employeeConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(connectTimeout.toMillis()))
+                .option(ChannelOption.SO_KEEPALIVE, keepAlive)
+                .keepAlive(keepAlive)
+                .responseTimeout(responseTimeout)
+                // sends Accept-Encoding: gzip and inflates bodies chunk by chunk as they arrive, ahead of the codecs
+                .compress(compress)
+                // added per request because pooled connections are reused; Reactor Netty removes it on release
+                .doOnRequest((request, connection) -> connection.addHandlerLast(
+                        new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS)));
+        // offers h2c through an HTTP/1.1 upgrade, so a server without HTTP/2 keeps answering over HTTP/1.1
+        return h2c ? httpClient.protocol(HttpProtocol.HTTP11, HttpProtocol.H2C) : httpClient;
+    }
+
     @Bean
-    public WebClient webClient(Builder builder) {
-        return builder.baseUrl("http://localhost:8112/api/v1/employee").build();
+    public WebClient webClient(
+            Builder builder,
+            ObjectProvider<Jackson2ObjectMapperBuilder> jacksonObjectMapperBuilder,
+            HttpClient employeeHttpClient,
+            AdaptiveRateLimiter adaptiveRateLimiter,
+            CircuitBreaker employeeCircuitBreaker,
+            MeterRegistry meterRegistry,
+            @Value("${employee.client.base-url:http://localhost:8112}") String baseUrl,
+            @Value("${employee.client.http.max-in-memory-size:16MB}") DataSize maxInMemorySize,
+            @Value("${employee.client.wire-format:json}") String wireFormat,
+            @Value("${employee.client.id:}") String clientId,
+            @Value("${employee.client.rate-limit.enabled:true}") boolean rateLimitEnabled,
+            @Value("${employee.client.circuit-breaker.enabled:true}") boolean circuitBreakerEnabled) {
+        ObjectMapper smileMapper = jacksonObjectMapperBuilder.getObject().factory(new SmileFactory()).build();
+        ObjectMapper cborMapper = jacksonObjectMapperBuilder.getObject().factory(new CBORFactory()).build();
+        builder.baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(employeeHttpClient))
+                .codecs(codecs -> {
+                    // caps how much of one response body is buffered for decoding; streamAllEmployees is not buffered
+                    codecs.defaultCodecs().maxInMemorySize(Math.toIntExact(maxInMemorySize.toBytes()));
+                    // Boot only customizes the JSON mapper, so the binary decoders get one built the same way
+                    codecs.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper));
+                    codecs.customCodecs().registerWithDefaultConfig(new Jackson2CborDecoder(cborMapper));
+                });
+        // request bodies stay JSON, only responses are negotiated
+        switch (wireFormat) {
+            case "json" -> {}
+            case "smile" -> builder.defaultHeader(HttpHeaders.ACCEPT, SMILE_FIRST);
+            case "cbor" -> builder.defaultHeader(HttpHeaders.ACCEPT, CBOR_FIRST);
+            default -> throw new IllegalArgumentException(
+                    "employee.client.wire-format must be json, smile or cbor but was " + wireFormat);
+        }
+        if (!clientId.isBlank()) {
+            // lets a mock server that rate limits per client tell replicas on the same host apart
+            builder.defaultHeader(CLIENT_ID, clientId);
+        }
+        if (circuitBreakerEnabled) {
+            // outermost, so an open breaker also keeps calls out of the rate limiter's queue
+            builder.filter(new CircuitBreakerFilter(employeeCircuitBreaker));
+        }
+        if (rateLimitEnabled) {
+            builder.filter(new AdaptiveRateLimitFilter(adaptiveRateLimiter, meterRegistry));
+        }
+        return builder.build();
     }
 }
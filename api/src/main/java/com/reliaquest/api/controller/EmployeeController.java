@@ -1,16 +1,20 @@
 package com.reliaquest.api.controller;
 
 import com.reliaquest.api.dto.CreateEmployeeDto;
+import com.reliaquest.api.dto.EmployeeData;
 import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.model.BatchItemResponse;
 import com.reliaquest.api.service.EmployeeService;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping("/api/v1/employees")
+@ConditionalOnProperty(name = "employee.api.reactive", havingValue = "false", matchIfMissing = true)
 public class EmployeeController implements IEmployeeController<EmployeeDto, CreateEmployeeDto> {
 
     @Autowired
@@ -46,6 +50,12 @@ public class EmployeeController implements IEmployeeController<EmployeeDto, Crea
         return ResponseEntity.ok(topEmployees);
     }
 
+    @GetMapping("/top-earning")
+    public ResponseEntity<List<String>> getTopEarningEmployeeNames(@RequestParam(defaultValue = "10") int k) {
+        List<String> topEmployees = employeeService.getTopEarningEmployeeNames(k);
+        return ResponseEntity.ok(topEmployees);
+    }
+
     @PostMapping
     public ResponseEntity<EmployeeDto> createEmployee(@RequestBody CreateEmployeeDto createEmployeeDTO) {
         EmployeeDto createdEmployee = employeeService.createEmployee(createEmployeeDTO);
@@ -57,4 +67,17 @@ public class EmployeeController implements IEmployeeController<EmployeeDto, Crea
         String message = employeeService.deleteEmployeeById(id);
         return ResponseEntity.ok(message);
     }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchItemResponse<EmployeeData>>> createEmployees(
+            @RequestBody List<CreateEmployeeDto> createEmployeeDtos) {
+        List<BatchItemResponse<EmployeeData>> results = employeeService.createEmployees(createEmployeeDtos);
+        return ResponseEntity.ok(results);
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<List<BatchItemResponse<Boolean>>> deleteEmployeesById(@RequestBody List<String> ids) {
+        List<BatchItemResponse<Boolean>> results = employeeService.deleteEmployeesById(ids);
+        return ResponseEntity.ok(results);
+    }
 }
@@ -0,0 +1,82 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.dto.CreateEmployeeDto;
+import com.reliaquest.api.dto.EmployeeData;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.model.BatchItemResponse;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves the same routes as {@link EmployeeController} without blocking, enabled with
+ * {@code employee.api.reactive=true}. It does not implement {@link IEmployeeController} because that contract is
+ * fixed to plain {@link ResponseEntity} return types.
+ */
+@RestController
+@RequestMapping("/api/v1/employees")
+@ConditionalOnProperty(name = "employee.api.reactive", havingValue = "true")
+public class ReactiveEmployeeController {
+
+    @Autowired
+    private ReactiveEmployeeService reactiveEmployeeService;
+
+    @GetMapping
+    public Mono<ResponseEntity<List<EmployeeDto>>> getAllEmployees() {
+        return reactiveEmployeeService.getAllEmployees().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<EmployeeDto>> getEmployeeById(@PathVariable String id) {
+        return reactiveEmployeeService.getEmployeeById(id).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/search/{searchString}")
+    public Mono<ResponseEntity<List<EmployeeDto>>> getEmployeesByNameSearch(@PathVariable String searchString) {
+        return reactiveEmployeeService.getEmployeesByNameSearch(searchString).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/highest-salary")
+    public Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        return reactiveEmployeeService.getHighestSalaryOfEmployees().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/top-10-earning")
+    public Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        return reactiveEmployeeService.getTop10HighestEarningEmployeeNames().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/top-earning")
+    public Mono<ResponseEntity<List<String>>> getTopEarningEmployeeNames(@RequestParam(defaultValue = "10") int k) {
+        return reactiveEmployeeService.getTopEarningEmployeeNames(k).map(ResponseEntity::ok);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<EmployeeDto>> createEmployee(@RequestBody CreateEmployeeDto createEmployeeDTO) {
+        return reactiveEmployeeService
+                .createEmployee(createEmployeeDTO)
+                .map(createdEmployee -> ResponseEntity.status(HttpStatus.CREATED).body(createdEmployee));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        return reactiveEmployeeService.deleteEmployeeById(id).map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<List<BatchItemResponse<EmployeeData>>>> createEmployees(
+            @RequestBody List<CreateEmployeeDto> createEmployeeDtos) {
+        return reactiveEmployeeService.createEmployees(createEmployeeDtos).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/batch")
+    public Mono<ResponseEntity<List<BatchItemResponse<Boolean>>>> deleteEmployeesById(
+            @RequestBody List<String> ids) {
+        return reactiveEmployeeService.deleteEmployeesById(ids).map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,32 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.cache.StaleReads;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link StaleResponseAdvice}: gives each exchange a slot in the Reactor context for
+ * {@link StaleReads} to flag, and adds the staleness headers before the response is committed if it was.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.api.reactive", havingValue = "true")
+public class StaleResponseWebFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        AtomicLong ageSeconds = new AtomicLong(-1);
+        exchange.getResponse().beforeCommit(() -> {
+            long age = ageSeconds.get();
+            if (age >= 0) {
+                StaleReads.addHeaders(exchange.getResponse().getHeaders(), age);
+            }
+            return Mono.empty();
+        });
+        return chain.filter(exchange).contextWrite(context -> context.put(StaleReads.ATTRIBUTE, ageSeconds));
+    }
+}
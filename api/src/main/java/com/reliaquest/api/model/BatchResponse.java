@@ -0,0 +1,10 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class BatchResponse<T> {
+    private List<BatchItemResponse<T>> data;
+    private String status;
+}
@@ -0,0 +1,73 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.Exception.EmployeeDeleteFailedException;
+import com.reliaquest.api.dto.EmployeeData;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.mapper.EmployeeMapper;
+import com.reliaquest.api.model.BatchItemResponse;
+import com.reliaquest.api.model.BatchResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Request and response plumbing shared by the blocking and reactive batch endpoints. Malformed ids are answered
+ * locally and never sent upstream; the remaining results are merged back in input order.
+ */
+final class EmployeeBatches {
+
+    private EmployeeBatches() {}
+
+    static List<EmployeeDto> created(BatchResponse<EmployeeData> response) {
+        return response.getData().stream()
+                .filter(item -> item.getData() != null)
+                .map(item -> EmployeeMapper.INSTANCE.employeeDataToEmployeeDto(item.getData(), item.getStatus()))
+                .collect(Collectors.toList());
+    }
+
+    static final class Deletion {
+
+        private final List<BatchItemResponse<Boolean>> results;
+        private final List<UUID> ids = new ArrayList<>();
+        private final List<Integer> positions = new ArrayList<>();
+
+        Deletion(List<String> requestedIds) {
+            results = new ArrayList<>(requestedIds.size());
+            for (String requestedId : requestedIds) {
+                try {
+                    ids.add(UUID.fromString(Objects.requireNonNull(requestedId)));
+                    positions.add(results.size());
+                    results.add(null);
+                } catch (IllegalArgumentException | NullPointerException e) {
+                    results.add(new BatchItemResponse<>(null, null, "Invalid employee id: " + requestedId));
+                }
+            }
+        }
+
+        List<UUID> ids() {
+            return ids;
+        }
+
+        List<BatchItemResponse<Boolean>> localResults() {
+            return results;
+        }
+
+        /** Merges the upstream results into the local ones and returns the ids that were actually deleted. */
+        List<UUID> merge(BatchResponse<Boolean> response) {
+            if (response == null || response.getData() == null || response.getData().size() != ids.size()) {
+                throw new EmployeeDeleteFailedException("Batch employee delete failed. Unexpected response received.");
+            }
+            List<UUID> deleted = new ArrayList<>();
+            for (int i = 0; i < ids.size(); i++) {
+                BatchItemResponse<Boolean> result = response.getData().get(i);
+                results.set(positions.get(i), result);
+                if (Boolean.TRUE.equals(result.getData())) {
+                    deleted.add(ids.get(i));
+                }
+            }
+            return deleted;
+        }
+    }
+}
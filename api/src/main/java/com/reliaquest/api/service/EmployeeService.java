@@ -3,51 +3,71 @@ package com.reliaquest.api.service;
 import static com.reliaquest.api.aop.LoggingAspect.logger;
 
 import com.reliaquest.api.Exception.*;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.StaleReads;
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.UpstreamRetryInterceptor;
 import com.reliaquest.api.dto.*;
 import com.reliaquest.api.mapper.EmployeeMapper;
-import com.reliaquest.api.model.EmployeeDeleteModel;
+import com.reliaquest.api.model.BatchItemResponse;
+import com.reliaquest.api.model.BatchResponse;
 import com.reliaquest.api.model.EmployeeResponse;
-import java.util.Comparator;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpMethod;
-import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
-import reactor.core.publisher.Mono;
 
+/**
+ * Blocking employee operations. Calls throttled upstream are retried by {@link UpstreamRetryInterceptor}, which honours
+ * {@code Retry-After}, jitters its backoff and draws every retry from the shared retry budget.
+ *
+ * <p>While the circuit breaker keeps calls away from the mock server, reads are answered from the last good roster
+ * snapshot and flagged stale through {@link StaleReads}, and writes fail fast with the breaker's
+ * {@link CallNotPermittedException}.
+ */
 @Service
 @Slf4j
 public class EmployeeService {
 
-    private final WebClient webClient;
-    private final String baseUrl = "http://localhost:8112/api/v1/employee";
+    private static final int TOP_EARNERS = 10;
+
+    private final EmployeeClient employeeClient;
     private final EmployeeMapper employeeMapper = EmployeeMapper.INSTANCE;
+    private final EmployeeSnapshotCache snapshotCache;
 
-    public EmployeeService(WebClient webClient) {
-        this.webClient = webClient;
+    public EmployeeService(EmployeeClient employeeClient, EmployeeSnapshotCache snapshotCache) {
+        this.employeeClient = employeeClient;
+        this.snapshotCache = snapshotCache;
     }
 
     @Retryable(
             retryFor = WebClientResponseException.TooManyRequests.class,
             maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2))
+            interceptor = UpstreamRetryInterceptor.BEAN_NAME)
     public List<EmployeeDto> getAllEmployees() {
-        EmployeeResponse employeeResponse = webClient
-                .get()
-                .uri(baseUrl)
-                .retrieve()
-                .bodyToMono(EmployeeResponse.class)
-                .block();
+        return readOrServeStale(
+                () -> snapshotCache.get(this::fetchAllEmployees), lastGood -> Optional.of(lastGood.employees()));
+    }
+
+    private List<EmployeeDto> fetchAllEmployees() {
+        EmployeeResponse employeeResponse = employeeClient.getAllEmployees().block();
         if (employeeResponse == null
                 || employeeResponse.getData() == null
                 || employeeResponse.getData().isEmpty()) {
             throw new EmployeeDataNotFoundException("No employee data found.");
         }
+        return toEmployeeDtos(employeeResponse);
+    }
+
+    private List<EmployeeDto> toEmployeeDtos(EmployeeResponse employeeResponse) {
         return employeeResponse.getData().stream()
                 .map(employeeData ->
                         employeeMapper.employeeDataToEmployeeDto(employeeData, employeeResponse.getStatus()))
@@ -63,19 +83,10 @@ public class EmployeeService {
     @Retryable(
             retryFor = {WebClientResponseException.TooManyRequests.class, EmployeeNotFoundException.class},
             maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2))
+            interceptor = UpstreamRetryInterceptor.BEAN_NAME)
     public EmployeeDto getEmployeeById(String id) {
-        EmployeeDto employeeDto = webClient
-                .get()
-                .uri(baseUrl + "/" + id)
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError(),
-                        clientResponse ->
-                                Mono.error(new EmployeeNotFoundException("Employee not found with id: " + id)))
-                .bodyToMono(EmployeeDto.class)
-                .block();
-        return employeeDto;
+        // an id missing from the snapshot may still exist upstream, so that stays unanswered rather than a 404
+        return readOrServeStale(() -> employeeClient.getEmployeeById(id).block(), lastGood -> lastGood.findById(id));
     }
 
     @Recover
@@ -93,12 +104,14 @@ public class EmployeeService {
     @Retryable(
             retryFor = WebClientResponseException.TooManyRequests.class,
             maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2))
+            interceptor = UpstreamRetryInterceptor.BEAN_NAME)
     public List<EmployeeDto> getEmployeesByNameSearch(String name) {
-        List<EmployeeDto> allEmployees = getAllEmployees();
-        List<EmployeeDto> employeesWithName = allEmployees.stream()
-                .filter(emp -> emp.getData().getName().toLowerCase().contains(name.toLowerCase()))
-                .collect(Collectors.toList());
+        // with no roster in memory, let the mock server filter instead of downloading everyone
+        List<EmployeeDto> employeesWithName = readOrServeStale(
+                () -> snapshotCache.isEnabled()
+                        ? snapshotCache.getNameIndex(this::fetchAllEmployees).search(name)
+                        : searchEmployeesByName(name),
+                lastGood -> Optional.of(lastGood.nameIndex().search(name)));
 
         if (employeesWithName.isEmpty()) {
             logger.error("Employee not found. Try later");
@@ -107,6 +120,14 @@ public class EmployeeService {
         return employeesWithName;
     }
 
+    private List<EmployeeDto> searchEmployeesByName(String name) {
+        EmployeeResponse employeeResponse = employeeClient.searchEmployeesByName(name).block();
+        if (employeeResponse == null || employeeResponse.getData() == null) {
+            return List.of();
+        }
+        return toEmployeeDtos(employeeResponse);
+    }
+
     @Recover
     public List<EmployeeDto> getEmployeesByNameSearchFallback(
             WebClientResponseException.TooManyRequests e, String name) {
@@ -117,12 +138,12 @@ public class EmployeeService {
     @Retryable(
             retryFor = WebClientResponseException.TooManyRequests.class,
             maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2))
+            interceptor = UpstreamRetryInterceptor.BEAN_NAME)
     public int getHighestSalaryOfEmployees() {
-
-        return getAllEmployees().stream()
-                .mapToInt(emp -> emp.getData().getSalary())
-                .max()
+        // one small stats call; the mock server keeps the maximum up to date on every create and delete
+        return readOrServeStale(
+                        () -> employeeClient.getHighestSalary().blockOptional(),
+                        lastGood -> Optional.of(lastGood.highestSalary()))
                 .orElseThrow(() -> new EmployeeDataNotFoundException("Unable to determine highest salary."));
     }
 
@@ -135,53 +156,71 @@ public class EmployeeService {
     @Retryable(
             retryFor = WebClientResponseException.TooManyRequests.class,
             maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2))
+            interceptor = UpstreamRetryInterceptor.BEAN_NAME)
     public List<String> getTop10HighestEarningEmployeeNames() {
-        EmployeeResponse employeeResponse = webClient
-                .get()
-                .uri(baseUrl)
-                .retrieve()
-                .bodyToMono(EmployeeResponse.class)
-                .block();
+        return getTopEarningEmployeeNames(TOP_EARNERS);
+    }
 
-        if (employeeResponse == null
-                || employeeResponse.getData() == null
-                || employeeResponse.getData().isEmpty()) {
-            logger.error("Employee data not found. Try later");
-            throw new EmployeeDataNotFoundException(
-                    "No employees found to determine the top 10 highest earning employees.");
+    @Recover
+    public List<String> recoverGetTop10HighestEarningEmployeeNames(WebClientResponseException.TooManyRequests e) {
+        logger.error("Retry Exceeded. Try later");
+        throw new HandleRetryException(
+                "Retry exceeded for getting top 10 Highest earning employee. Please try again later.");
+    }
+
+    @Retryable(
+            retryFor = WebClientResponseException.TooManyRequests.class,
+            maxAttempts = 3,
+            interceptor = UpstreamRetryInterceptor.BEAN_NAME)
+    public List<String> getTopEarningEmployeeNames(int k) {
+        if (k <= 0) {
+            throw new InvalidEmployeeDataException("k must be a positive number but was " + k);
         }
-        return employeeResponse.getData().stream()
-                .sorted(Comparator.comparingInt(EmployeeData::getSalary).reversed())
-                .limit(10)
-                .map(EmployeeData::getName)
+        if (!snapshotCache.isEnabled()) {
+            // keep only the current top earners while the roster streams in
+            List<String> names = readOrServeStale(
+                    () -> employeeClient
+                            .streamAllEmployees()
+                            .collect(() -> new TopEarners<EmployeeData>(k), (top, employee) -> top.offer(
+                                    employee.getSalary(), employee))
+                            .map(top -> top.toList().stream()
+                                    .map(EmployeeData::getName)
+                                    .collect(Collectors.toList()))
+                            .block(),
+                    lastGood -> Optional.of(topEarnerNames(lastGood.employees(), k)));
+            if (names == null || names.isEmpty()) {
+                throw new EmployeeDataNotFoundException("No employee data found.");
+            }
+            return names;
+        }
+        return topEarnerNames(getAllEmployees(), k);
+    }
+
+    private static List<String> topEarnerNames(List<EmployeeDto> employees, int k) {
+        return TopEarners.of(employees, emp -> emp.getData().getSalary(), k).stream()
+                .map(emp -> emp.getData().getName())
                 .collect(Collectors.toList());
     }
 
     @Recover
-    public List<String> recoverGetTop10HighestEarningEmployeeNames(WebClientResponseException.TooManyRequests e) {
+    public List<String> recoverGetTopEarningEmployeeNames(WebClientResponseException.TooManyRequests e, int k) {
         logger.error("Retry Exceeded. Try later");
         throw new HandleRetryException(
-                "Retry exceeded for getting top 10 Highest earning employee. Please try again later.");
+                "Retry exceeded for getting top " + k + " highest earning employees. Please try again later.");
     }
 
     @Retryable(
             retryFor = WebClientResponseException.TooManyRequests.class,
             maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2))
+            interceptor = UpstreamRetryInterceptor.BEAN_NAME)
     public EmployeeDto createEmployee(CreateEmployeeDto createEmployeeDTO) {
-        EmployeeDto createEmployeeResponse = webClient
-                .post()
-                .uri(baseUrl)
-                .bodyValue(createEmployeeDTO)
-                .retrieve()
-                .bodyToMono(EmployeeDto.class)
-                .block();
+        EmployeeDto createEmployeeResponse = employeeClient.createEmployee(createEmployeeDTO).block();
 
         if (createEmployeeResponse == null) {
             logger.error("Employee creation failed. Try later");
             throw new EmployeeCreationFailedException("Employee creation failed. No response received.");
         }
+        snapshotCache.employeeCreated(createEmployeeResponse);
         return createEmployeeResponse;
     }
 
@@ -195,24 +234,17 @@ public class EmployeeService {
     @Retryable(
             retryFor = WebClientResponseException.TooManyRequests.class,
             maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2))
+            interceptor = UpstreamRetryInterceptor.BEAN_NAME)
     public String deleteEmployeeById(String id) {
-        EmployeeDto employeeDto = getEmployeeById(id);
-        DeleteEmployeeDto deleteEmployeeDto =
-                new DeleteEmployeeDto(employeeDto.getData().getName());
-        EmployeeDeleteModel employeeDeleteModel = webClient
-                .method(HttpMethod.DELETE)
-                .uri(baseUrl)
-                .bodyValue(deleteEmployeeDto)
-                .retrieve()
-                .bodyToMono(EmployeeDeleteModel.class)
-                .block();
-
-        if (employeeDeleteModel == null) {
+        // one upstream call, the mock server deletes by id instead of by a name that may be shared
+        EmployeeDto deleted = employeeClient.deleteEmployeeById(id).block();
+
+        if (deleted == null || deleted.getData() == null) {
             logger.error("Employee delete failed. Try later");
             throw new EmployeeDeleteFailedException("Failed to delete employee with ID: " + id);
         }
-        return employeeDeleteModel.getStatus();
+        snapshotCache.employeesDeleted(List.of(deleted.getData().getId()));
+        return deleted.getStatus();
     }
 
     @Recover
@@ -220,4 +252,64 @@ public class EmployeeService {
         logger.error("Retry Exceeded. Try later");
         throw new HandleRetryException("Retry exceeded for deleting employee. Please try again later.");
     }
+
+    @Retryable(
+            retryFor = WebClientResponseException.TooManyRequests.class,
+            maxAttempts = 3,
+            interceptor = UpstreamRetryInterceptor.BEAN_NAME)
+    public List<BatchItemResponse<EmployeeData>> createEmployees(List<CreateEmployeeDto> createEmployeeDtos) {
+        BatchResponse<EmployeeData> response = employeeClient.createEmployees(createEmployeeDtos).block();
+
+        if (response == null || response.getData() == null) {
+            logger.error("Batch employee creation failed. Try later");
+            throw new EmployeeCreationFailedException("Batch employee creation failed. No response received.");
+        }
+        snapshotCache.employeesCreated(EmployeeBatches.created(response));
+        return response.getData();
+    }
+
+    @Recover
+    public List<BatchItemResponse<EmployeeData>> createEmployeesFallback(
+            WebClientResponseException.TooManyRequests e, List<CreateEmployeeDto> createEmployeeDtos) {
+        logger.error("Retry Exceeded. Try later");
+        throw new HandleRetryException("Retry exceeded for creating employees. Please try again later.");
+    }
+
+    @Retryable(
+            retryFor = WebClientResponseException.TooManyRequests.class,
+            maxAttempts = 3,
+            interceptor = UpstreamRetryInterceptor.BEAN_NAME)
+    public List<BatchItemResponse<Boolean>> deleteEmployeesById(List<String> ids) {
+        EmployeeBatches.Deletion deletion = new EmployeeBatches.Deletion(ids);
+        if (!deletion.ids().isEmpty()) {
+            // one request by id, no per-employee lookup first
+            List<UUID> deleted =
+                    deletion.merge(employeeClient.deleteEmployees(deletion.ids()).block());
+            snapshotCache.employeesDeleted(deleted);
+        }
+        return deletion.localResults();
+    }
+
+    @Recover
+    public List<BatchItemResponse<Boolean>> deleteEmployeesByIdFallback(
+            WebClientResponseException.TooManyRequests e, List<String> ids) {
+        logger.error("Retry Exceeded. Try later");
+        throw new HandleRetryException("Retry exceeded for deleting employees. Please try again later.");
+    }
+
+    /**
+     * Runs {@code read}, or answers it from the last good snapshot while the circuit breaker rejects calls. The
+     * breaker's rejection stands when there is no snapshot or it cannot answer.
+     */
+    private <T> T readOrServeStale(
+            Supplier<T> read, Function<EmployeeSnapshotCache.LastGood, Optional<T>> fromLastGood) {
+        try {
+            return read.get();
+        } catch (CallNotPermittedException e) {
+            EmployeeSnapshotCache.LastGood lastGood = snapshotCache.lastGood().orElseThrow(() -> e);
+            T stale = fromLastGood.apply(lastGood).orElseThrow(() -> e);
+            StaleReads.mark(lastGood.ageSeconds());
+            return stale;
+        }
+    }
 }
@@ -0,0 +1,217 @@
+package com.reliaquest.api.service;
+
+import static com.reliaquest.api.aop.LoggingAspect.logger;
+
+import com.reliaquest.api.Exception.*;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.StaleReads;
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.RetryBudget;
+import com.reliaquest.api.client.UpstreamBackoff;
+import com.reliaquest.api.dto.*;
+import com.reliaquest.api.mapper.EmployeeMapper;
+import com.reliaquest.api.model.BatchItemResponse;
+import com.reliaquest.api.model.BatchResponse;
+import com.reliaquest.api.model.EmployeeResponse;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeService}. Nothing here parks a thread: upstream calls stay on the
+ * Reactor Netty event loop and throttled calls are retried on timers instead of sleeps, spaced by the same
+ * {@link UpstreamBackoff} and paid for from the same {@link RetryBudget} as the blocking service's retries. Reads
+ * fall back to the last good snapshot while the circuit breaker is open, just as the blocking service's do.
+ */
+@Service
+@Slf4j
+public class ReactiveEmployeeService {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int TOP_EARNERS = 10;
+
+    private final EmployeeClient employeeClient;
+    private final EmployeeMapper employeeMapper = EmployeeMapper.INSTANCE;
+    private final EmployeeSnapshotCache snapshotCache;
+    private final UpstreamBackoff upstreamBackoff;
+    private final RetryBudget retryBudget;
+
+    public ReactiveEmployeeService(
+            EmployeeClient employeeClient,
+            EmployeeSnapshotCache snapshotCache,
+            UpstreamBackoff upstreamBackoff,
+            RetryBudget retryBudget) {
+        this.employeeClient = employeeClient;
+        this.snapshotCache = snapshotCache;
+        this.upstreamBackoff = upstreamBackoff;
+        this.retryBudget = retryBudget;
+    }
+
+    public Mono<List<EmployeeDto>> getAllEmployees() {
+        return readOrServeStale(
+                snapshotCache.getAsync(this::fetchAllEmployees), lastGood -> Optional.of(lastGood.employees()));
+    }
+
+    private Mono<List<EmployeeDto>> fetchAllEmployees() {
+        return employeeClient
+                .getAllEmployees()
+                .retryWhen(retryOnThrottle("Retry exceeded. Please try again later."))
+                .filter(employeeResponse -> employeeResponse.getData() != null
+                        && !employeeResponse.getData().isEmpty())
+                .switchIfEmpty(Mono.error(() -> new EmployeeDataNotFoundException("No employee data found.")))
+                .map(this::toEmployeeDtos);
+    }
+
+    public Mono<EmployeeDto> getEmployeeById(String id) {
+        return readOrServeStale(
+                employeeClient
+                        .getEmployeeById(id)
+                        .retryWhen(retryOnThrottle(
+                                "Retry exceeded for fetching employee by ID. Please try again later.")),
+                lastGood -> lastGood.findById(id));
+    }
+
+    public Mono<List<EmployeeDto>> getEmployeesByNameSearch(String name) {
+        Mono<List<EmployeeDto>> matches = snapshotCache.isEnabled()
+                ? snapshotCache.getNameIndexAsync(this::fetchAllEmployees).map(nameIndex -> nameIndex.search(name))
+                : employeeClient
+                        .searchEmployeesByName(name)
+                        .retryWhen(retryOnThrottle(
+                                "Retry exceeded for searching employees by name. Please try again later."))
+                        .filter(employeeResponse -> employeeResponse.getData() != null)
+                        .map(this::toEmployeeDtos);
+        return readOrServeStale(matches, lastGood -> Optional.of(lastGood.nameIndex().search(name)))
+                .filter(employeesWithName -> !employeesWithName.isEmpty())
+                .switchIfEmpty(Mono.error(
+                        () -> new EmployeeDataNotFoundException("No employees found with the name: " + name)));
+    }
+
+    public Mono<Integer> getHighestSalaryOfEmployees() {
+        return readOrServeStale(
+                        employeeClient
+                                .getHighestSalary()
+                                .retryWhen(retryOnThrottle("Retry exceeded Please try again later.")),
+                        EmployeeSnapshotCache.LastGood::highestSalary)
+                .switchIfEmpty(
+                        Mono.error(() -> new EmployeeDataNotFoundException("Unable to determine highest salary.")));
+    }
+
+    public Mono<List<String>> getTop10HighestEarningEmployeeNames() {
+        return getTopEarningEmployeeNames(TOP_EARNERS);
+    }
+
+    public Mono<List<String>> getTopEarningEmployeeNames(int k) {
+        if (k <= 0) {
+            return Mono.error(new InvalidEmployeeDataException("k must be a positive number but was " + k));
+        }
+        return getAllEmployees()
+                .map(employees -> TopEarners.of(employees, emp -> emp.getData().getSalary(), k).stream()
+                        .map(emp -> emp.getData().getName())
+                        .collect(Collectors.toList()));
+    }
+
+    public Mono<EmployeeDto> createEmployee(CreateEmployeeDto createEmployeeDTO) {
+        return employeeClient
+                .createEmployee(createEmployeeDTO)
+                .retryWhen(retryOnThrottle("Retry exceeded for creating employee. Please try again later."))
+                .switchIfEmpty(Mono.error(() -> {
+                    logger.error("Employee creation failed. Try later");
+                    return new EmployeeCreationFailedException("Employee creation failed. No response received.");
+                }))
+                .doOnNext(snapshotCache::employeeCreated);
+    }
+
+    public Mono<String> deleteEmployeeById(String id) {
+        return employeeClient
+                .deleteEmployeeById(id)
+                .retryWhen(retryOnThrottle("Retry exceeded for deleting employee. Please try again later."))
+                .filter(deleted -> deleted.getData() != null)
+                .switchIfEmpty(Mono.error(() -> {
+                    logger.error("Employee delete failed. Try later");
+                    return new EmployeeDeleteFailedException("Failed to delete employee with ID: " + id);
+                }))
+                .doOnNext(deleted -> snapshotCache.employeesDeleted(
+                        List.of(deleted.getData().getId())))
+                .map(EmployeeDto::getStatus);
+    }
+
+    public Mono<List<BatchItemResponse<EmployeeData>>> createEmployees(List<CreateEmployeeDto> createEmployeeDtos) {
+        return employeeClient
+                .createEmployees(createEmployeeDtos)
+                .retryWhen(retryOnThrottle("Retry exceeded for creating employees. Please try again later."))
+                .filter(response -> response.getData() != null)
+                .switchIfEmpty(Mono.error(() -> {
+                    logger.error("Batch employee creation failed. Try later");
+                    return new EmployeeCreationFailedException(
+                            "Batch employee creation failed. No response received.");
+                }))
+                .doOnNext(response -> snapshotCache.employeesCreated(EmployeeBatches.created(response)))
+                .map(BatchResponse::getData);
+    }
+
+    public Mono<List<BatchItemResponse<Boolean>>> deleteEmployeesById(List<String> ids) {
+        EmployeeBatches.Deletion deletion = new EmployeeBatches.Deletion(ids);
+        if (deletion.ids().isEmpty()) {
+            return Mono.just(deletion.localResults());
+        }
+        return employeeClient
+                .deleteEmployees(deletion.ids())
+                .retryWhen(retryOnThrottle("Retry exceeded for deleting employees. Please try again later."))
+                .defaultIfEmpty(new BatchResponse<>())
+                .map(response -> {
+                    snapshotCache.employeesDeleted(deletion.merge(response));
+                    return deletion.localResults();
+                });
+    }
+
+    private List<EmployeeDto> toEmployeeDtos(EmployeeResponse employeeResponse) {
+        return employeeResponse.getData().stream()
+                .map(employeeData ->
+                        employeeMapper.employeeDataToEmployeeDto(employeeData, employeeResponse.getStatus()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Subscribes to {@code read}, or answers it from the last good snapshot while the circuit breaker rejects calls.
+     * The breaker's rejection stands when there is no snapshot or it cannot answer.
+     */
+    private <T> Mono<T> readOrServeStale(
+            Mono<T> read, Function<EmployeeSnapshotCache.LastGood, Optional<T>> fromLastGood) {
+        return read.onErrorResume(CallNotPermittedException.class, e -> snapshotCache
+                .lastGood()
+                .flatMap(lastGood -> fromLastGood
+                        .apply(lastGood)
+                        .map(stale -> StaleReads.served(stale, lastGood.ageSeconds())))
+                .orElseGet(() -> Mono.error(e)));
+    }
+
+    /** Called once per subscription, so every call counts towards the budget and keeps its own previous delay. */
+    private Retry retryOnThrottle(String exhaustedMessage) {
+        return Retry.from(retrySignals -> {
+            retryBudget.onCall();
+            long[] previousDelayMillis = {0};
+            return retrySignals.concatMap(retrySignal -> {
+                Throwable failure = retrySignal.failure();
+                if (!(failure instanceof WebClientResponseException.TooManyRequests)) {
+                    return Mono.<Long>error(failure);
+                }
+                if (retrySignal.totalRetries() >= MAX_ATTEMPTS - 1
+                        || upstreamBackoff.waitsTooLong(failure)
+                        || !retryBudget.tryRetry()) {
+                    logger.error("Retry Exceeded. Try later");
+                    return Mono.<Long>error(new HandleRetryException(exhaustedMessage));
+                }
+                previousDelayMillis[0] = upstreamBackoff.nextDelayMillis(failure, previousDelayMillis[0]);
+                return Mono.delay(Duration.ofMillis(previousDelayMillis[0]));
+            });
+        });
+    }
+}
@@ -0,0 +1,139 @@
+package com.reliaquest.api.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Keeps the {@code k} highest earners seen so far in a bounded min-heap, so ranking n employees costs O(n log k) time
+ * and O(k) memory instead of sorting a copy of the whole roster.
+ *
+ * <p>Salaries and arrival order live in primitive arrays next to the items, so comparisons never unbox or call back
+ * into the item. Ties are stable: among equal salaries the employee offered first ranks higher, which is what a stable
+ * descending sort followed by {@code limit(k)} returns. Not thread-safe.
+ */
+public final class TopEarners<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int k;
+
+    private int[] salaries;
+    private long[] arrivals;
+    private Object[] items;
+    private int size;
+    private long offered;
+
+    public TopEarners(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive but was " + k);
+        }
+        this.k = k;
+        // grown on demand, so a k larger than the roster does not allocate k slots up front
+        int capacity = Math.min(k, INITIAL_CAPACITY);
+        this.salaries = new int[capacity];
+        this.arrivals = new long[capacity];
+        this.items = new Object[capacity];
+    }
+
+    public static <T> List<T> of(Iterable<T> employees, ToIntFunction<T> salary, int k) {
+        TopEarners<T> top = new TopEarners<>(k);
+        for (T employee : employees) {
+            top.offer(salary.applyAsInt(employee), employee);
+        }
+        return top.toList();
+    }
+
+    public void offer(int salary, T item) {
+        long arrival = offered++;
+        if (size < k) {
+            if (size == salaries.length) {
+                grow();
+            }
+            siftUp(size++, salary, arrival, item);
+        } else if (salary > salaries[0]) {
+            // an equal salary arrived later than the current minimum, so it never displaces it
+            siftDown(0, salary, arrival, item);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Returns the kept items, highest salary first. Leaves the heap unchanged. */
+    @SuppressWarnings("unchecked")
+    public List<T> toList() {
+        int[] heapSalaries = salaries.clone();
+        long[] heapArrivals = arrivals.clone();
+        Object[] heapItems = items.clone();
+        int heapSize = size;
+
+        Object[] ranked = new Object[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            ranked[i] = items[0];
+            size--;
+            if (size > 0) {
+                siftDown(0, salaries[size], arrivals[size], items[size]);
+            }
+        }
+
+        salaries = heapSalaries;
+        arrivals = heapArrivals;
+        items = heapItems;
+        size = heapSize;
+        List<T> result = new ArrayList<>(ranked.length);
+        for (Object item : ranked) {
+            result.add((T) item);
+        }
+        return result;
+    }
+
+    private void grow() {
+        int capacity = (int) Math.min(k, salaries.length * 2L);
+        salaries = Arrays.copyOf(salaries, capacity);
+        arrivals = Arrays.copyOf(arrivals, capacity);
+        items = Arrays.copyOf(items, capacity);
+    }
+
+    // lower salary ranks lower; among equal salaries the later arrival ranks lower and is evicted first
+    private static boolean ranksBelow(int salary, long arrival, int otherSalary, long otherArrival) {
+        return salary < otherSalary || (salary == otherSalary && arrival > otherArrival);
+    }
+
+    private void siftUp(int index, int salary, long arrival, Object item) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksBelow(salary, arrival, salaries[parent], arrivals[parent])) {
+                break;
+            }
+            place(index, salaries[parent], arrivals[parent], items[parent]);
+            index = parent;
+        }
+        place(index, salary, arrival, item);
+    }
+
+    private void siftDown(int index, int salary, long arrival, Object item) {
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && ranksBelow(salaries[right], arrivals[right], salaries[child], arrivals[child])) {
+                child = right;
+            }
+            if (!ranksBelow(salaries[child], arrivals[child], salary, arrival)) {
+                break;
+            }
+            place(index, salaries[child], arrivals[child], items[child]);
+            index = child;
+        }
+        place(index, salary, arrival, item);
+    }
+
+    private void place(int index, int salary, long arrival, Object item) {
+        salaries[index] = salary;
+        arrivals[index] = arrival;
+        items[index] = item;
+    }
+}
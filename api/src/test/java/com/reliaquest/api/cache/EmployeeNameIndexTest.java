@@ -0,0 +1,86 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.EmployeeData;
+import com.reliaquest.api.dto.EmployeeDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class EmployeeNameIndexTest {
+
+    private static final String[] QUERIES = {"", "a", "an", "ann", "ANNA", "an s", "smith", "nna s", "xyz", "ith"};
+
+    @Test
+    void testMatchesCaseInsensitiveContains() {
+        List<EmployeeDto> roster = List.of(
+                employee("Anna Smith"),
+                employee("Hannah Banana"),
+                employee("JOHN SMITHERS"),
+                employee("Joanna Sanchez"),
+                employee("Li"));
+        EmployeeNameIndex index = new EmployeeNameIndex(roster);
+
+        for (String query : QUERIES) {
+            assertEquals(linearScan(roster, query), index.search(query), query);
+        }
+    }
+
+    @Test
+    void testRequiresContiguousMatchNotJustSharedTrigrams() {
+        EmployeeNameIndex index = new EmployeeNameIndex(List.of(employee("abcd bcde")));
+
+        // shares every trigram of "abcde" but does not contain it
+        assertTrue(index.search("abcde").isEmpty());
+    }
+
+    @Test
+    void testAddAndRemoveKeepRosterOrder() {
+        List<EmployeeDto> roster = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 500; i++) {
+            roster.add(employee(randomName(random)));
+        }
+        EmployeeNameIndex index = new EmployeeNameIndex(roster.subList(0, 250));
+        for (EmployeeDto employee : roster.subList(250, 500)) {
+            index.add(employee);
+        }
+        for (int i = 0; i < 100; i++) {
+            EmployeeDto removed = roster.remove(random.nextInt(roster.size()));
+            index.remove(removed.getData().getId());
+        }
+
+        for (String query : QUERIES) {
+            assertEquals(linearScan(roster, query), index.search(query), query);
+        }
+        for (int i = 0; i < 200; i++) {
+            String query = randomName(random).substring(0, 1 + random.nextInt(4));
+            assertEquals(linearScan(roster, query), index.search(query), query);
+        }
+    }
+
+    private static List<EmployeeDto> linearScan(List<EmployeeDto> roster, String name) {
+        return roster.stream()
+                .filter(emp -> emp.getData().getName().toLowerCase().contains(name.toLowerCase()))
+                .collect(Collectors.toList());
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int length = 3 + random.nextInt(10);
+        for (int i = 0; i < length; i++) {
+            name.append(i == 4 ? ' ' : "aAnNsS".charAt(random.nextInt(6)));
+        }
+        return name.toString();
+    }
+
+    private static EmployeeDto employee(String name) {
+        return EmployeeDto.builder()
+                .data(EmployeeData.builder().id(UUID.randomUUID()).name(name).build())
+                .build();
+    }
+}
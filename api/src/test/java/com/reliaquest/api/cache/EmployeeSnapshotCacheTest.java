@@ -0,0 +1,201 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.EmployeeData;
+import com.reliaquest.api.dto.EmployeeDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EmployeeSnapshotCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loads.set(0);
+    }
+
+    @Test
+    void testFreshSnapshotIsServedWithoutReload() {
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(Duration.ofMinutes(1), meterRegistry);
+
+        List<EmployeeDto> first = cache.get(this::load);
+        List<EmployeeDto> second = cache.get(this::load);
+
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+        assertEquals(1, count("miss"));
+        assertEquals(1, count("hit"));
+    }
+
+    @Test
+    void testStaleSnapshotIsServedWhileRefreshing() throws InterruptedException {
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(Duration.ofMillis(1), meterRegistry);
+        List<EmployeeDto> first = cache.get(this::load);
+        Thread.sleep(5);
+
+        List<EmployeeDto> stale = cache.get(this::load);
+
+        assertSame(first, stale);
+        assertEquals(1, count("stale"));
+        waitForRefresh();
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testInvalidateForcesReload() {
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(Duration.ofMinutes(1), meterRegistry);
+        cache.get(this::load);
+
+        cache.invalidate();
+        cache.get(this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testCreatedAndDeletedEmployeesAreAppliedWithoutReload() {
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(Duration.ofMinutes(1), meterRegistry);
+        EmployeeDto janeDoe = cache.get(this::load).get(0);
+        assertEquals(1, cache.getNameIndex(this::load).search("jane").size());
+
+        EmployeeDto johnSmith = employee("John Smith");
+        cache.employeeCreated(johnSmith);
+        cache.employeesDeleted(List.of(janeDoe.getData().getId()));
+
+        assertEquals(List.of(johnSmith), cache.get(this::load));
+        assertTrue(cache.getNameIndex(this::load).search("jane").isEmpty());
+        assertEquals(List.of(johnSmith), cache.getNameIndex(this::load).search("SMITH"));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testWritesKeepLookupsByIdAndSkipEmployeesAlreadyPresent() {
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(Duration.ofMinutes(1), meterRegistry);
+        EmployeeDto janeDoe = cache.get(this::load).get(0);
+        EmployeeDto johnSmith = employee("John Smith");
+        EmployeeDto alexLee = employee("Alex Lee");
+
+        cache.employeeCreated(johnSmith);
+        cache.employeeCreated(johnSmith);
+        cache.employeeCreated(alexLee);
+        cache.employeesDeleted(List.of(janeDoe.getData().getId(), UUID.randomUUID()));
+
+        EmployeeSnapshotCache.LastGood lastGood = cache.lastGood().orElseThrow();
+        assertEquals(List.of(johnSmith, alexLee), cache.get(this::load));
+        assertEquals(alexLee, lastGood.findById(alexLee.getData().getId().toString()).orElseThrow());
+        assertTrue(lastGood.findById(janeDoe.getData().getId().toString()).isEmpty());
+        assertTrue(lastGood.findById("not-a-uuid").isEmpty());
+    }
+
+    @Test
+    void testWritesDuringASlowRefreshAreNotLost() throws InterruptedException {
+        // long enough for the refreshed snapshot to stay fresh through the asserts, so none of them starts another
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(Duration.ofMillis(200), meterRegistry);
+        EmployeeDto janeDoe = cache.get(this::load).get(0);
+        Thread.sleep(250);
+        CountDownLatch fetched = new CountDownLatch(1);
+        CountDownLatch written = new CountDownLatch(1);
+
+        // the refresh fetches the roster as it was before the writes below, and stores it after them
+        cache.get(() -> {
+            fetched.countDown();
+            await(written);
+            return List.of(janeDoe);
+        });
+        assertTrue(fetched.await(1, TimeUnit.SECONDS));
+        EmployeeDto johnSmith = employee("John Smith");
+        cache.employeeCreated(johnSmith);
+        cache.employeesDeleted(List.of(janeDoe.getData().getId()));
+        written.countDown();
+        waitForRefresh();
+
+        assertEquals(1, refreshes());
+        assertEquals(List.of(johnSmith), cache.get(this::load));
+        assertEquals(List.of(johnSmith), cache.getNameIndex(this::load).search("john"));
+    }
+
+    @Test
+    void testZeroTtlDisablesCache() {
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(Duration.ZERO, meterRegistry);
+
+        cache.get(this::load);
+        cache.get(this::load);
+
+        assertFalse(cache.isEnabled());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testLastGoodOutlivesInvalidateAndDisabledCache() {
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(Duration.ofMinutes(1), meterRegistry);
+        assertTrue(cache.lastGood().isEmpty());
+        List<EmployeeDto> loaded = cache.get(this::load);
+
+        cache.invalidate();
+
+        assertEquals(loaded, cache.lastGood().orElseThrow().employees());
+        String id = loaded.get(0).getData().getId().toString();
+        assertEquals(loaded.get(0), cache.lastGood().orElseThrow().findById(id).orElseThrow());
+
+        EmployeeSnapshotCache disabled = new EmployeeSnapshotCache(Duration.ZERO, meterRegistry);
+        disabled.get(this::load);
+        assertEquals(15000, disabled.lastGood().orElseThrow().highestSalary().orElseThrow());
+    }
+
+    private List<EmployeeDto> load() {
+        loads.incrementAndGet();
+        return List.of(employee("Jane Doe"));
+    }
+
+    private static EmployeeDto employee(String name) {
+        return EmployeeDto.builder()
+                .data(EmployeeData.builder()
+                        .id(UUID.randomUUID())
+                        .name(name)
+                        .salary(15000)
+                        .build())
+                .build();
+    }
+
+    private double count(String result) {
+        return meterRegistry
+                .get("employee.cache.requests")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void waitForRefresh() throws InterruptedException {
+        for (int i = 0; i < 100 && refreshes() == 0; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private double refreshes() {
+        return meterRegistry
+                .get("employee.cache.refreshes")
+                .tag("result", "success")
+                .counter()
+                .count();
+    }
+}
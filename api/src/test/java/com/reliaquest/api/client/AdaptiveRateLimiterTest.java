@@ -0,0 +1,124 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private AdaptiveRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        now.set(1_000_000);
+        rateLimiter = new AdaptiveRateLimiter(
+                10, Duration.ofSeconds(30), Duration.ofSeconds(120), Duration.ofSeconds(5), 2, now::get);
+    }
+
+    @Test
+    void testThrottleShrinksBudgetToWhatSucceeded() {
+        for (int i = 0; i < 6; i++) {
+            assertEquals(0, rateLimiter.tryAcquire());
+            rateLimiter.onSuccess();
+        }
+        assertEquals(0, rateLimiter.tryAcquire());
+
+        rateLimiter.onThrottled(-1);
+
+        assertEquals(6, rateLimiter.getBudget());
+        assertEquals(AdaptiveRateLimiter.SHED, rateLimiter.tryAcquire());
+    }
+
+    @Test
+    void testRetryAfterSetsCooldown() {
+        rateLimiter.tryAcquire();
+        rateLimiter.onSuccess();
+        rateLimiter.tryAcquire();
+
+        rateLimiter.onThrottled(Duration.ofSeconds(45).toMillis());
+
+        assertEquals(45_000, rateLimiter.getCooldownMillis());
+        now.addAndGet(45_000);
+        assertEquals(0, rateLimiter.tryAcquire());
+    }
+
+    @Test
+    void testThrottleRightAfterCooldownDoublesIt() {
+        rateLimiter.tryAcquire();
+        rateLimiter.onSuccess();
+        rateLimiter.tryAcquire();
+        rateLimiter.onThrottled(-1);
+
+        now.addAndGet(30_000);
+        rateLimiter.tryAcquire();
+        rateLimiter.onThrottled(-1);
+
+        assertEquals(60_000, rateLimiter.getCooldownMillis());
+        assertEquals(1, rateLimiter.getBudget());
+    }
+
+    @Test
+    void testRequestsCloseToReopeningAreQueuedUpToCapacity() {
+        rateLimiter.tryAcquire();
+        rateLimiter.onSuccess();
+        rateLimiter.tryAcquire();
+        rateLimiter.onSuccess();
+        rateLimiter.tryAcquire();
+        rateLimiter.onThrottled(-1);
+        now.addAndGet(27_000);
+
+        assertEquals(3_000, rateLimiter.tryAcquire());
+        assertEquals(3_000, rateLimiter.tryAcquire());
+        assertEquals(AdaptiveRateLimiter.SHED, rateLimiter.tryAcquire());
+        assertEquals(2, rateLimiter.getQueued());
+
+        rateLimiter.dequeued();
+        rateLimiter.dequeued();
+        now.addAndGet(3_000);
+        assertEquals(0, rateLimiter.tryAcquire(), "the window is open again");
+        assertEquals(4, rateLimiter.getBudget(), "both slots were taken, so the budget doubled");
+    }
+
+    @Test
+    void testRemainingWaitCountsDownToReopening() {
+        assertEquals(0, rateLimiter.getRemainingWaitMillis());
+        rateLimiter.tryAcquire();
+        rateLimiter.onThrottled(-1);
+
+        now.addAndGet(20_000);
+
+        assertEquals(10_000, rateLimiter.getRemainingWaitMillis());
+        assertEquals(30_000, rateLimiter.getCooldownMillis());
+        now.addAndGet(15_000);
+        assertEquals(0, rateLimiter.getRemainingWaitMillis());
+    }
+
+    @Test
+    void testSpentBudgetDoublesWithoutClosingTheWindow() {
+        rateLimiter = new AdaptiveRateLimiter(
+                2, Duration.ofSeconds(30), Duration.ofSeconds(120), Duration.ofSeconds(5), 2, now::get);
+        rateLimiter.tryAcquire();
+        rateLimiter.tryAcquire();
+
+        assertEquals(0, rateLimiter.tryAcquire());
+        assertEquals(4, rateLimiter.getBudget());
+        assertEquals(0, rateLimiter.getRemainingWaitMillis());
+    }
+
+    @Test
+    void testUpstreamThatNeverThrottlesIsNeverDelayed() {
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(0, rateLimiter.tryAcquire());
+            rateLimiter.onSuccess();
+            now.addAndGet(1);
+        }
+
+        assertEquals(0, rateLimiter.getRemainingWaitMillis());
+        assertEquals(1_000, rateLimiter.getBudget(), "grew to the cap");
+    }
+}
@@ -0,0 +1,78 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import java.net.ConnectException;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+public class CircuitBreakerFilterTest {
+
+    private final AtomicInteger exchanges = new AtomicInteger();
+
+    private final CircuitBreaker circuitBreaker = CircuitBreaker.of(
+            "test",
+            CircuitBreakerConfig.custom()
+                    .slidingWindowSize(4)
+                    .minimumNumberOfCalls(4)
+                    .failureRateThreshold(50)
+                    .recordResult(CircuitBreakerFilter::isThrottled)
+                    .recordException(CircuitBreakerFilter::isOutage)
+                    .build());
+
+    private final CircuitBreakerFilter filter = new CircuitBreakerFilter(circuitBreaker);
+
+    private final ClientRequest request =
+            ClientRequest.create(HttpMethod.GET, URI.create("http://localhost/api/v1/employee")).build();
+
+    @Test
+    void testSustainedThrottlingOpensAndRejectsWithoutCallingUpstream() {
+        respond(HttpStatus.OK);
+        respond(HttpStatus.OK);
+        respond(HttpStatus.TOO_MANY_REQUESTS);
+        respond(HttpStatus.TOO_MANY_REQUESTS);
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThrows(CallNotPermittedException.class, () -> respond(HttpStatus.OK));
+        assertEquals(4, exchanges.get());
+    }
+
+    @Test
+    void testOtherErrorResponsesDoNotCount() {
+        respond(HttpStatus.NOT_FOUND);
+        respond(HttpStatus.NOT_FOUND);
+        respond(HttpStatus.INTERNAL_SERVER_ERROR);
+        respond(HttpStatus.TOO_MANY_REQUESTS);
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void testConnectionFailuresOpen() {
+        for (int i = 0; i < 4; i++) {
+            Mono<ClientResponse> failed = filter.filter(request, ignored -> Mono.error(new WebClientRequestException(
+                    new ConnectException("refused"), HttpMethod.GET, request.url(), request.headers())));
+            assertThrows(WebClientRequestException.class, failed::block);
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    private ClientResponse respond(HttpStatus status) {
+        return filter.filter(request, ignored -> {
+                    exchanges.incrementAndGet();
+                    return Mono.just(ClientResponse.create(status).build());
+                })
+                .block();
+    }
+}
@@ -0,0 +1,135 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.EmployeeData;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.model.EmployeeResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+public class EmployeeClientTest {
+
+    private static final int CALLERS = 50;
+
+    private static final String EMPLOYEE_LIST = "{\"data\":[{\"id\":\"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507\","
+            + "\"employee_name\":\"Tiger Nixon\",\"employee_salary\":320800,\"employee_age\":61,"
+            + "\"employee_title\":\"Vice Chair\",\"employee_email\":\"tnixon@company.com\"}],"
+            + "\"status\":\"Successfully processed request.\"}";
+
+    private static final String EMPLOYEE = "{\"data\":{\"id\":\"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507\","
+            + "\"employee_name\":\"Tiger Nixon\",\"employee_salary\":320800},"
+            + "\"status\":\"Successfully processed request.\"}";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final AtomicInteger upstreamRequests = new AtomicInteger();
+    private final Sinks.Empty<Void> release = Sinks.empty();
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentListCallsShareOneUpstreamRequest() throws Exception {
+        EmployeeClient employeeClient = new EmployeeClient(webClientRespondingWith(EMPLOYEE_LIST), objectMapper);
+
+        List<EmployeeResponse> responses = callConcurrently(client -> client.getAllEmployees(), employeeClient);
+
+        assertEquals(1, upstreamRequests.get());
+        assertEquals(CALLERS, responses.size());
+        responses.forEach(response -> assertEquals("Tiger Nixon", response.getData().get(0).getName()));
+    }
+
+    @Test
+    void testConcurrentCallsForSameIdShareOneUpstreamRequest() throws Exception {
+        EmployeeClient employeeClient = new EmployeeClient(webClientRespondingWith(EMPLOYEE), objectMapper);
+
+        List<EmployeeDto> responses = callConcurrently(
+                client -> client.getEmployeeById("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507"), employeeClient);
+
+        assertEquals(1, upstreamRequests.get());
+        assertEquals(CALLERS, responses.size());
+    }
+
+    @Test
+    void testCallsAfterCompletionGoUpstreamAgain() {
+        release.tryEmitEmpty();
+        EmployeeClient employeeClient = new EmployeeClient(webClientRespondingWith(EMPLOYEE_LIST), objectMapper);
+
+        employeeClient.getAllEmployees().block();
+        employeeClient.getAllEmployees().block();
+
+        assertEquals(2, upstreamRequests.get());
+    }
+
+    @Test
+    void testStreamAllEmployeesDecodesEveryEmployee() {
+        release.tryEmitEmpty();
+        EmployeeClient employeeClient = new EmployeeClient(webClientRespondingWith(EMPLOYEE_LIST), objectMapper);
+
+        List<EmployeeData> employees = employeeClient.streamAllEmployees().collectList().block();
+
+        assertEquals(1, employees.size());
+        assertEquals("Tiger Nixon", employees.get(0).getName());
+        assertEquals(320800, employees.get(0).getSalary());
+    }
+
+    private <T> List<T> callConcurrently(Function<EmployeeClient, Mono<T>> call, EmployeeClient employeeClient)
+            throws Exception {
+        CountDownLatch subscribed = new CountDownLatch(CALLERS);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> call.apply(employeeClient)
+                    .doOnSubscribe(subscription -> subscribed.countDown())
+                    .block()));
+        }
+        assertTrue(subscribed.await(5, TimeUnit.SECONDS));
+        release.tryEmitEmpty();
+
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get(5, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private WebClient webClientRespondingWith(String body) {
+        return WebClient.builder()
+                .exchangeFunction(request -> {
+                    upstreamRequests.incrementAndGet();
+                    return release.asMono()
+                            .then(Mono.fromSupplier(() -> ClientResponse.create(HttpStatus.OK)
+                                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                    .body(body)
+                                    .build()));
+                })
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.EmployeeData;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+public class EmployeeStreamDecoderTest {
+
+    private static final String EMPLOYEE_LIST = "{\"status\":\"Successfully processed request.\",\"data\":["
+            + "{\"id\":\"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507\",\"employee_name\":\"Tiger Nixon\","
+            + "\"employee_salary\":320800,\"employee_age\":61,\"employee_title\":\"Vice Chair\"},"
+            + "{\"employee_name\":\"Emily Davis\",\"employee_salary\":4000,\"tags\":[{\"data\":[]}]}]}";
+
+    private final EmployeeStreamDecoder decoder = new EmployeeStreamDecoder(Jackson2ObjectMapperBuilder.json().build());
+
+    @Test
+    void testDecodesEmployeesSplitAcrossBuffers() {
+        List<EmployeeData> employees = new ArrayList<>();
+        byte[] bytes = EMPLOYEE_LIST.getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            employees.addAll(decoder.decode(DefaultDataBufferFactory.sharedInstance.wrap(new byte[] {b})));
+        }
+        employees.addAll(decoder.endOfInput());
+
+        assertEquals(2, employees.size());
+        assertEquals("Tiger Nixon", employees.get(0).getName());
+        assertEquals(320800, employees.get(0).getSalary());
+        assertEquals("Emily Davis", employees.get(1).getName());
+    }
+
+    @Test
+    void testEmitsEachEmployeeAsSoonAsItIsComplete() {
+        String firstEmployee = "{\"data\":[{\"employee_name\":\"Tiger Nixon\",\"employee_salary\":320800}";
+
+        List<EmployeeData> employees = decoder.decode(
+                DefaultDataBufferFactory.sharedInstance.wrap(firstEmployee.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(1, employees.size());
+        assertEquals("Tiger Nixon", employees.get(0).getName());
+    }
+
+    @Test
+    void testIgnoresNullData() {
+        List<EmployeeData> employees = decoder.decode(DefaultDataBufferFactory.sharedInstance.wrap(
+                "{\"data\":null,\"status\":\"Successfully processed request.\"}".getBytes(StandardCharsets.UTF_8)));
+
+        assertTrue(employees.isEmpty());
+        assertTrue(decoder.endOfInput().isEmpty());
+    }
+}
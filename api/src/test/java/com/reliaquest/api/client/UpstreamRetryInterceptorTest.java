@@ -0,0 +1,154 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.retry.annotation.Recover;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+public class UpstreamRetryInterceptorTest {
+
+    private final List<Long> sleeps = new ArrayList<>();
+
+    @Test
+    void testRetriesWithDecorrelatedJitterUntilRecovered() {
+        Upstream upstream = proxy(new Upstream(Integer.MAX_VALUE, null), new RetryBudget(0.1, 10));
+
+        assertEquals("recovered", upstream.fetch());
+
+        assertEquals(3, upstream.calls().get());
+        assertEquals(2, sleeps.size());
+        assertTrue(sleeps.get(0) >= 200 && sleeps.get(0) <= 600, "first delay " + sleeps.get(0));
+        assertTrue(
+                sleeps.get(1) >= 200 && sleeps.get(1) <= Math.max(200, sleeps.get(0)) * 3,
+                "second delay " + sleeps.get(1));
+    }
+
+    @Test
+    void testWaitsForRetryAfter() {
+        Upstream upstream = proxy(new Upstream(1, "1"), new RetryBudget(0.1, 10));
+
+        assertEquals("fetched", upstream.fetch());
+
+        assertEquals(2, upstream.calls().get());
+        assertTrue(sleeps.get(0) >= 1_000 && sleeps.get(0) <= 1_200, "delay " + sleeps.get(0));
+    }
+
+    @Test
+    void testGivesUpOnRetryAfterLongerThanWorthWaiting() {
+        Upstream upstream = proxy(new Upstream(Integer.MAX_VALUE, "60"), new RetryBudget(0.1, 10));
+
+        assertEquals("recovered", upstream.fetch());
+
+        assertEquals(1, upstream.calls().get());
+        assertTrue(sleeps.isEmpty());
+    }
+
+    @Test
+    void testStopsRetryingOnceTheBudgetIsSpent() {
+        Upstream upstream = proxy(new Upstream(Integer.MAX_VALUE, null), new RetryBudget(0, 1));
+
+        assertEquals("recovered", upstream.fetch());
+        assertEquals(2, upstream.calls().get());
+
+        assertEquals("recovered", upstream.fetch());
+        assertEquals(3, upstream.calls().get());
+    }
+
+    @Test
+    void testFailuresNotRetriedForSkipRecovery() {
+        Upstream upstream = proxy(new Upstream(0, null), new RetryBudget(0.1, 10));
+
+        assertThrows(IllegalStateException.class, upstream::reject);
+        assertTrue(sleeps.isEmpty());
+    }
+
+    @Test
+    void testBudgetEarnsRetriesFromCalls() {
+        RetryBudget budget = new RetryBudget(0.5, 1);
+
+        assertTrue(budget.tryRetry());
+        assertFalse(budget.tryRetry());
+        budget.onCall();
+        assertFalse(budget.tryRetry());
+        budget.onCall();
+        budget.onCall();
+        budget.onCall();
+        assertEquals(1.0, budget.getAvailable());
+        assertTrue(budget.tryRetry());
+    }
+
+    @Test
+    void testParsesRetryAfterInBothForms() {
+        HttpHeaders headers = new HttpHeaders();
+        assertEquals(-1, UpstreamBackoff.retryAfterMillis(headers));
+
+        headers.set(HttpHeaders.RETRY_AFTER, "30");
+        assertEquals(30_000, UpstreamBackoff.retryAfterMillis(headers));
+
+        headers.set(HttpHeaders.RETRY_AFTER, "Wed, 21 Oct 2015 07:28:00 GMT");
+        assertEquals(0, UpstreamBackoff.retryAfterMillis(headers));
+
+        headers.set(HttpHeaders.RETRY_AFTER, "soon");
+        assertEquals(-1, UpstreamBackoff.retryAfterMillis(headers));
+    }
+
+    private Upstream proxy(Upstream target, RetryBudget budget) {
+        UpstreamBackoff backoff =
+                new UpstreamBackoff(Duration.ofMillis(200), Duration.ofSeconds(5), Duration.ofSeconds(5));
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new UpstreamRetryInterceptor(backoff, budget, sleeps::add));
+        return (Upstream) proxyFactory.getProxy();
+    }
+
+    static class Upstream {
+
+        private final int failures;
+        private final String retryAfter;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        Upstream(int failures, String retryAfter) {
+            this.failures = failures;
+            this.retryAfter = retryAfter;
+        }
+
+        @Retryable(
+                retryFor = WebClientResponseException.TooManyRequests.class,
+                maxAttempts = 3,
+                interceptor = UpstreamRetryInterceptor.BEAN_NAME)
+        public String fetch() {
+            if (calls.incrementAndGet() > failures) {
+                return "fetched";
+            }
+            HttpHeaders headers = new HttpHeaders();
+            if (retryAfter != null) {
+                headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+            }
+            throw WebClientResponseException.create(429, "Too Many Requests", headers, null, null);
+        }
+
+        @Retryable(
+                retryFor = WebClientResponseException.TooManyRequests.class,
+                interceptor = UpstreamRetryInterceptor.BEAN_NAME)
+        public String reject() {
+            throw new IllegalStateException("rejected");
+        }
+
+        @Recover
+        public String recover(WebClientResponseException.TooManyRequests e) {
+            return "recovered";
+        }
+
+        public AtomicInteger calls() {
+            return calls;
+        }
+    }
+}
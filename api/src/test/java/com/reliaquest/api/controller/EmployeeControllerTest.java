@@ -6,6 +6,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.reliaquest.api.dto.EmployeeData;
 import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.model.BatchItemResponse;
 import com.reliaquest.api.service.EmployeeService;
 import java.util.List;
 import java.util.UUID;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -179,4 +181,35 @@ public class EmployeeControllerTest {
 
         verify(employeeService, times(1)).getTop10HighestEarningEmployeeNames();
     }
+
+    @Test
+    public void testGetTopEarningEmployeeNames() throws Exception {
+
+        when(employeeService.getTopEarningEmployeeNames(3)).thenReturn(List.of("John Doe", "Jane Smith", "Alex Lee"));
+
+        mockMvc.perform(get("/api/v1/employees/top-earning").param("k", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[2]").value("Alex Lee"));
+
+        verify(employeeService, times(1)).getTopEarningEmployeeNames(3);
+    }
+
+    @Test
+    public void testDeleteEmployeesById() throws Exception {
+
+        when(employeeService.deleteEmployeesById(List.of("a", "b")))
+                .thenReturn(List.of(
+                        new BatchItemResponse<>(true, "Successfully processed request.", null),
+                        new BatchItemResponse<>(null, null, "Invalid employee id: b")));
+
+        mockMvc.perform(delete("/api/v1/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"a\",\"b\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].data").value(true))
+                .andExpect(jsonPath("$[1].error").value("Invalid employee id: b"));
+
+        verify(employeeService, times(1)).deleteEmployeesById(List.of("a", "b"));
+    }
 }
@@ -5,8 +5,14 @@ import static org.mockito.Mockito.*;
 
 import com.reliaquest.api.Exception.EmployeeCreationFailedException;
 import com.reliaquest.api.Exception.EmployeeDataNotFoundException;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.client.EmployeeClient;
 import com.reliaquest.api.dto.*;
 import com.reliaquest.api.model.EmployeeResponse;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -18,6 +24,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
@@ -53,7 +60,9 @@ public class EmployeeServiceTest {
         requestBodyUriSpec = mock(WebClient.RequestBodyUriSpec.class);
         requestBodySpec = mock(WebClient.RequestBodySpec.class);
 
-        employeeService = new EmployeeService(webClient);
+        employeeService = new EmployeeService(
+                new EmployeeClient(webClient, Jackson2ObjectMapperBuilder.json().build()),
+                new EmployeeSnapshotCache(Duration.ofSeconds(30), new SimpleMeterRegistry()));
     }
 
     @Test
@@ -130,6 +139,42 @@ public class EmployeeServiceTest {
         assertEquals("Jane Doe", result.getData().getName());
     }
 
+    @Test
+    void testReadsServeLastGoodSnapshotWhileCircuitBreakerIsOpen() {
+        employeeService = new EmployeeService(
+                new EmployeeClient(webClient, Jackson2ObjectMapperBuilder.json().build()),
+                new EmployeeSnapshotCache(Duration.ZERO, new SimpleMeterRegistry()));
+        EmployeeData janeDoe = EmployeeData.builder()
+                .id(UUID.randomUUID())
+                .name("Jane Doe")
+                .salary(15000)
+                .build();
+        EmployeeResponse employeeResponse = new EmployeeResponse();
+        employeeResponse.setData(List.of(janeDoe));
+        CallNotPermittedException rejected =
+                CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("test"));
+
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.onStatus(any(), any())).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(EmployeeResponse.class))
+                .thenReturn(Mono.just(employeeResponse), Mono.error(rejected));
+        when(responseSpec.bodyToMono(EmployeeDto.class)).thenReturn(Mono.error(rejected));
+
+        employeeService.getAllEmployees();
+        List<EmployeeDto> stale = employeeService.getAllEmployees();
+
+        assertEquals("Jane Doe", stale.get(0).getData().getName());
+        assertEquals(
+                "Jane Doe",
+                employeeService.getEmployeeById(janeDoe.getId().toString()).getData().getName());
+        // not in the snapshot, which cannot tell whether the employee exists
+        assertThrows(
+                CallNotPermittedException.class,
+                () -> employeeService.getEmployeeById(UUID.randomUUID().toString()));
+    }
+
     @Test
     void testCreateEmployeeSuccess() {
         // Arrange: Mock the WebClient call for success
@@ -305,6 +350,34 @@ public class EmployeeServiceTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void testGetEmployeesByNameSearch_CacheDisabledSearchesOnTheServer() {
+        // Arrange
+        EmployeeClient employeeClient = mock(EmployeeClient.class);
+        EmployeeService uncachedService = new EmployeeService(
+                employeeClient, new EmployeeSnapshotCache(Duration.ZERO, new SimpleMeterRegistry()));
+        EmployeeResponse employeeResponse = new EmployeeResponse();
+        employeeResponse.setData(List.of(EmployeeData.builder()
+                .id(UUID.randomUUID())
+                .name("Jane Doe")
+                .salary(15000)
+                .age(28)
+                .title("Manager")
+                .email("jane@example.com")
+                .build()));
+        when(employeeClient.searchEmployeesByName("jane")).thenReturn(Mono.just(employeeResponse));
+
+        // Act
+        List<EmployeeDto> result = uncachedService.getEmployeesByNameSearch("jane");
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("Jane Doe", result.get(0).getData().getName());
+        verify(employeeClient).searchEmployeesByName("jane");
+        verify(employeeClient, never()).getAllEmployees();
+        verify(employeeClient, never()).streamAllEmployees();
+    }
+
     @Test
     void testGetTop10HighestEarningEmployeeNames_Success() {
         // Mock data
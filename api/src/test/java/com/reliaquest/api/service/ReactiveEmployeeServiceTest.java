@@ -0,0 +1,170 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.Exception.EmployeeCreationFailedException;
+import com.reliaquest.api.Exception.EmployeeDataNotFoundException;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.RetryBudget;
+import com.reliaquest.api.client.UpstreamBackoff;
+import com.reliaquest.api.dto.*;
+import com.reliaquest.api.model.BatchItemResponse;
+import com.reliaquest.api.model.BatchResponse;
+import com.reliaquest.api.model.EmployeeResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+public class ReactiveEmployeeServiceTest {
+
+    private EmployeeClient employeeClient;
+
+    private ReactiveEmployeeService reactiveEmployeeService;
+
+    @BeforeEach
+    void setUp() {
+        employeeClient = mock(EmployeeClient.class);
+        reactiveEmployeeService = service(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void testGetTop10HighestEarningEmployeeNames() {
+        when(employeeClient.getAllEmployees())
+                .thenReturn(Mono.just(response(
+                        employee("John Doe", 1000), employee("Emily Davis", 4000), employee("Jane Smith", 3000))));
+
+        List<String> result = reactiveEmployeeService.getTop10HighestEarningEmployeeNames().block();
+
+        assertEquals(List.of("Emily Davis", "Jane Smith", "John Doe"), result);
+    }
+
+    @Test
+    void testGetHighestSalaryOfEmployees() {
+        when(employeeClient.getHighestSalary()).thenReturn(Mono.just(4000));
+
+        assertEquals(4000, reactiveEmployeeService.getHighestSalaryOfEmployees().block());
+        verify(employeeClient, never()).getAllEmployees();
+    }
+
+    @Test
+    void testGetHighestSalaryOfEmployeesNoEmployees() {
+        when(employeeClient.getHighestSalary()).thenReturn(Mono.empty());
+
+        assertThrows(
+                EmployeeDataNotFoundException.class,
+                () -> reactiveEmployeeService.getHighestSalaryOfEmployees().block());
+    }
+
+    @Test
+    void testGetEmployeesByNameSearchNoMatch() {
+        when(employeeClient.getAllEmployees()).thenReturn(Mono.just(response(employee("John Doe", 1000))));
+
+        assertThrows(
+                EmployeeDataNotFoundException.class,
+                () -> reactiveEmployeeService.getEmployeesByNameSearch("jane").block());
+    }
+
+    @Test
+    void testGetEmployeesByNameSearchPushesFilterToServerWithoutCache() {
+        reactiveEmployeeService = service(Duration.ZERO);
+        when(employeeClient.searchEmployeesByName("jane"))
+                .thenReturn(Mono.just(response(employee("Jane Smith", 3000))));
+
+        List<EmployeeDto> employees =
+                reactiveEmployeeService.getEmployeesByNameSearch("jane").block();
+
+        assertEquals("Jane Smith", employees.get(0).getData().getName());
+        verify(employeeClient, never()).getAllEmployees();
+    }
+
+    @Test
+    void testGetAllEmployeesRetriesWhenThrottled() {
+        AtomicInteger attempts = new AtomicInteger();
+        when(employeeClient.getAllEmployees()).thenReturn(Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.error(WebClientResponseException.create(429, "Too Many Requests", HttpHeaders.EMPTY, null, null))
+                : Mono.just(response(employee("John Doe", 1000)))));
+
+        List<EmployeeDto> employees = reactiveEmployeeService.getAllEmployees().block();
+
+        assertEquals(2, attempts.get());
+        assertEquals(1, employees.size());
+    }
+
+    @Test
+    void testCreateEmployeeFailNoResponse() {
+        CreateEmployeeDto createEmployeeDto = new CreateEmployeeDto();
+        createEmployeeDto.setName("John Smith");
+        when(employeeClient.createEmployee(createEmployeeDto)).thenReturn(Mono.empty());
+
+        assertThrows(
+                EmployeeCreationFailedException.class,
+                () -> reactiveEmployeeService.createEmployee(createEmployeeDto).block());
+    }
+
+    @Test
+    void testDeleteEmployeesByIdAnswersInvalidIdsLocallyAndKeepsOrder() {
+        UUID deleted = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        BatchResponse<Boolean> upstream = new BatchResponse<>();
+        upstream.setData(List.of(
+                new BatchItemResponse<>(true, "Successfully processed request.", null),
+                new BatchItemResponse<>(false, "Successfully processed request.", null)));
+        when(employeeClient.deleteEmployees(List.of(deleted, missing))).thenReturn(Mono.just(upstream));
+
+        List<BatchItemResponse<Boolean>> results = reactiveEmployeeService
+                .deleteEmployeesById(List.of(deleted.toString(), "not-an-id", missing.toString()))
+                .block();
+
+        assertEquals(3, results.size());
+        assertEquals(true, results.get(0).getData());
+        assertEquals("Invalid employee id: not-an-id", results.get(1).getError());
+        assertEquals(false, results.get(2).getData());
+        verify(employeeClient, times(1)).deleteEmployees(anyList());
+    }
+
+    @Test
+    void testDeleteEmployeeByIdIsOneUpstreamCall() {
+        EmployeeData employee = employee("John Doe", 1000);
+        String id = employee.getId().toString();
+        when(employeeClient.deleteEmployeeById(id))
+                .thenReturn(Mono.just(new EmployeeDto(employee, "Successfully processed request.")));
+
+        assertEquals(
+                "Successfully processed request.",
+                reactiveEmployeeService.deleteEmployeeById(id).block());
+        verify(employeeClient, never()).getEmployeeById(anyString());
+        verify(employeeClient, never()).deleteEmployee(any());
+    }
+
+    private ReactiveEmployeeService service(Duration cacheTtl) {
+        return new ReactiveEmployeeService(
+                employeeClient,
+                new EmployeeSnapshotCache(cacheTtl, new SimpleMeterRegistry()),
+                new UpstreamBackoff(Duration.ofMillis(1), Duration.ofMillis(10), Duration.ofSeconds(5)),
+                new RetryBudget(0.1, 10));
+    }
+
+    private static EmployeeResponse response(EmployeeData... employees) {
+        EmployeeResponse employeeResponse = new EmployeeResponse();
+        employeeResponse.setData(List.of(employees));
+        employeeResponse.setStatus("Successfully processed request.");
+        return employeeResponse;
+    }
+
+    private static EmployeeData employee(String name, int salary) {
+        return EmployeeData.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .build();
+    }
+}
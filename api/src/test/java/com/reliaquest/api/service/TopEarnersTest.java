@@ -0,0 +1,82 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class TopEarnersTest {
+
+    private record Employee(String name, int salary) {}
+
+    @Test
+    void testReturnsHighestSalariesFirst() {
+        List<Employee> employees = List.of(
+                new Employee("John Doe", 1000),
+                new Employee("Jane Smith", 3000),
+                new Employee("Alex Johnson", 2000),
+                new Employee("Emily Davis", 4000));
+
+        List<Employee> top = TopEarners.of(employees, Employee::salary, 3);
+
+        assertEquals(List.of("Emily Davis", "Jane Smith", "Alex Johnson"), names(top));
+    }
+
+    @Test
+    void testKeepsEarlierEmployeeOnEqualSalary() {
+        List<Employee> employees = List.of(
+                new Employee("First", 2000),
+                new Employee("Second", 2000),
+                new Employee("Third", 2000),
+                new Employee("Top", 5000));
+
+        List<Employee> top = TopEarners.of(employees, Employee::salary, 3);
+
+        assertEquals(List.of("Top", "First", "Second"), names(top));
+    }
+
+    @Test
+    void testMatchesStableSortOnRandomRosters() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            List<Employee> employees = new ArrayList<>();
+            int size = random.nextInt(300);
+            for (int i = 0; i < size; i++) {
+                employees.add(new Employee("employee-" + i, random.nextInt(50)));
+            }
+            int k = 1 + random.nextInt(40);
+
+            List<Employee> expected = employees.stream()
+                    .sorted(Comparator.comparingInt(Employee::salary).reversed())
+                    .limit(k)
+                    .collect(Collectors.toList());
+
+            assertEquals(expected, TopEarners.of(employees, Employee::salary, k));
+        }
+    }
+
+    @Test
+    void testToListLeavesHeapUsable() {
+        TopEarners<Employee> top = new TopEarners<>(2);
+        top.offer(1000, new Employee("John Doe", 1000));
+        top.offer(3000, new Employee("Jane Smith", 3000));
+        top.toList();
+        top.offer(2000, new Employee("Alex Johnson", 2000));
+
+        assertEquals(2, top.size());
+        assertEquals(List.of("Jane Smith", "Alex Johnson"), names(top.toList()));
+    }
+
+    @Test
+    void testRejectsNonPositiveK() {
+        assertThrows(IllegalArgumentException.class, () -> new TopEarners<Employee>(0));
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::name).collect(Collectors.toList());
+    }
+}
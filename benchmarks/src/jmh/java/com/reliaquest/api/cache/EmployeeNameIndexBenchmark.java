@@ -0,0 +1,69 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeData;
+import com.reliaquest.api.dto.EmployeeDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the linear {@code toLowerCase().contains()} scan the name search used with a lookup in
+ * {@link EmployeeNameIndex}, for a selective and a short query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeNameIndexBenchmark {
+
+    private static final String[] FIRST_NAMES = {
+        "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David", "Elizabeth"
+    };
+    private static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez"
+    };
+
+    @Param({"1000", "100000"})
+    private int employees;
+
+    @Param({"liz", "son", "garcia 4711"})
+    private String query;
+
+    private List<EmployeeDto> roster;
+    private EmployeeNameIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        roster = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + i;
+            roster.add(EmployeeDto.builder()
+                    .data(EmployeeData.builder().name(name).build())
+                    .build());
+        }
+        index = new EmployeeNameIndex(roster);
+    }
+
+    @Benchmark
+    public List<EmployeeDto> linearScan() {
+        return roster.stream()
+                .filter(emp -> emp.getData().getName().toLowerCase().contains(query.toLowerCase()))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<EmployeeDto> trigramIndex() {
+        return index.search(query);
+    }
+}
@@ -0,0 +1,134 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.benchmarks.Rosters;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Fetches and decodes the employee list over loopback HTTP with and without {@code Accept-Encoding: gzip}, the way
+ * {@link EmployeeClient#getAllEmployees()} does. The local server gzips like the mock server's Tomcat does when the
+ * client asks for it. The score is end-to-end latency; the bytes received on the socket per response, before
+ * decompression, are reported next to it as the {@code wireBytesPerResponse} counter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CompressionBenchmark {
+
+    private static final String EMPLOYEES = "/api/v1/employee";
+
+    @Param({"50", "10000", "100000"})
+    private int employees;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private final AtomicLong wireBytes = new AtomicLong();
+
+    private DisposableServer server;
+    private WebClient webClient;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        EmployeeResponse roster = new EmployeeResponse();
+        roster.setData(Rosters.employeeData(employees));
+        roster.setStatus("Successfully processed request.");
+        byte[] body = objectMapper.writeValueAsBytes(roster);
+
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                // Tomcat's default server.compression.min-response-size
+                .compress(2048)
+                .route(routes -> routes.get(EMPLOYEES, (request, response) -> response
+                        .header("Content-Type", "application/json")
+                        .sendByteArray(Mono.just(body))))
+                .bindNow();
+
+        HttpClient httpClient = HttpClient.create()
+                .compress(gzip)
+                // first in the pipeline, so it counts the bytes as they came off the socket
+                .doOnChannelInit((observer, channel, address) ->
+                        channel.pipeline().addFirst(new ChannelInboundHandlerAdapter() {
+                            @Override
+                            public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                                if (msg instanceof ByteBuf buf) {
+                                    wireBytes.addAndGet(buf.readableBytes());
+                                }
+                                ctx.fireChannelRead(msg);
+                            }
+                        }));
+        webClient = WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.port())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(-1))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.disposeNow();
+    }
+
+    @Benchmark
+    public EmployeeResponse fetchAllEmployees(WireCounters counters) {
+        long before = wireBytes.get();
+        EmployeeResponse response = webClient
+                .get()
+                .uri(EMPLOYEES)
+                .retrieve()
+                .bodyToMono(EmployeeResponse.class)
+                .block();
+        // the whole body has been read off the socket once it is decoded
+        counters.record(wireBytes.get() - before);
+        return response;
+    }
+
+    /** Bytes received on the socket per response in the iteration, reported by JMH as a secondary result. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireCounters {
+
+        private long wireBytes;
+        private long responses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            wireBytes = 0;
+            responses = 0;
+        }
+
+        void record(long bytes) {
+            wireBytes += bytes;
+            responses++;
+        }
+
+        public long wireBytesPerResponse() {
+            return responses == 0 ? 0 : wireBytes / responses;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.EmployeeData;
+import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.benchmarks.Rosters;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Decodes the JSON employee list the two ways {@link EmployeeClient} does: buffered into an {@link EmployeeResponse},
+ * and element by element with {@link EmployeeStreamDecoder} from chunks the size of a typical network read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeResponseDecodeBenchmark {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    @Param({"50", "10000", "100000"})
+    private int employees;
+
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    private ObjectMapper objectMapper;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        EmployeeResponse roster = new EmployeeResponse();
+        roster.setData(Rosters.employeeData(employees));
+        roster.setStatus("Successfully processed request.");
+        body = objectMapper.writeValueAsBytes(roster);
+    }
+
+    @Benchmark
+    public EmployeeResponse readValue() throws Exception {
+        return objectMapper.readValue(body, EmployeeResponse.class);
+    }
+
+    @Benchmark
+    public void streamDecoder(Blackhole blackhole) {
+        EmployeeStreamDecoder decoder = new EmployeeStreamDecoder(objectMapper);
+        for (int offset = 0; offset < body.length; offset += CHUNK_SIZE) {
+            int length = Math.min(CHUNK_SIZE, body.length - offset);
+            consume(decoder.decode(bufferFactory.wrap(ByteBuffer.wrap(body, offset, length))), blackhole);
+        }
+        consume(decoder.endOfInput(), blackhole);
+    }
+
+    private static void consume(List<EmployeeData> decoded, Blackhole blackhole) {
+        for (EmployeeData employee : decoded) {
+            blackhole.consume(employee);
+        }
+    }
+}
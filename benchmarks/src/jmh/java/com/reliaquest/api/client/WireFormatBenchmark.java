@@ -0,0 +1,67 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.benchmarks.Rosters;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Decodes the same employee list from JSON, Smile and CBOR into an {@link EmployeeResponse}, as the
+ * {@code employee.client.wire-format} decoders do. Scores and the gc profiler's {@code gc.alloc.rate.norm} are per
+ * employee; the encoded size of each format is reported next to them as the {@code encodedBytes} counter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WireFormatBenchmark {
+
+    private static final int EMPLOYEES = 1000;
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        objectMapper = switch (format) {
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            default -> builder.build();
+        };
+        EmployeeResponse roster = new EmployeeResponse();
+        roster.setData(Rosters.employeeData(EMPLOYEES));
+        roster.setStatus("Successfully processed request.");
+        body = objectMapper.writeValueAsBytes(roster);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EMPLOYEES)
+    public EmployeeResponse decode(SizeCounters counters) throws Exception {
+        counters.encodedBytes = body.length;
+        return objectMapper.readValue(body, EmployeeResponse.class);
+    }
+
+    /** The size of the decoded body, reported by JMH as a secondary result. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SizeCounters {
+
+        public long encodedBytes;
+    }
+}
@@ -0,0 +1,44 @@
+package com.reliaquest.api.mapper;
+
+import com.reliaquest.api.dto.EmployeeData;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.benchmarks.Rosters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Maps a whole roster with {@link EmployeeMapper#employeeDataToEmployeeDto}, as the services do for every list. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeMapperBenchmark {
+
+    private static final String STATUS = "Successfully processed request.";
+
+    @Param({"50", "10000", "100000"})
+    private int employees;
+
+    private List<EmployeeData> roster;
+
+    @Setup
+    public void setUp() {
+        roster = Rosters.employeeData(employees);
+    }
+
+    @Benchmark
+    public List<EmployeeDto> mapRoster() {
+        List<EmployeeDto> mapped = new ArrayList<>(roster.size());
+        for (EmployeeData data : roster) {
+            mapped.add(EmployeeMapper.INSTANCE.employeeDataToEmployeeDto(data, STATUS));
+        }
+        return mapped;
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.EmployeeData;
+import com.reliaquest.api.dto.EmployeeDto;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the full descending sort {@link EmployeeService} used to rank earners with the bounded heap in
+ * {@link TopEarners}, on the same roster of {@link EmployeeDto}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TopEarnersBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int employees;
+
+    @Param({"10"})
+    private int k;
+
+    private List<EmployeeDto> roster;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        roster = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            roster.add(EmployeeDto.builder()
+                    .data(EmployeeData.builder()
+                            .name("employee-" + i)
+                            .salary(random.nextInt(500_000))
+                            .build())
+                    .status("Successfully processed request.")
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<String> sort() {
+        return roster.stream()
+                .map(EmployeeDto::getData)
+                .sorted(Comparator.comparingInt(EmployeeData::getSalary).reversed())
+                .limit(k)
+                .map(EmployeeData::getName)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> boundedHeap() {
+        return TopEarners.of(roster, emp -> emp.getData().getSalary(), k).stream()
+                .map(emp -> emp.getData().getName())
+                .collect(Collectors.toList());
+    }
+}
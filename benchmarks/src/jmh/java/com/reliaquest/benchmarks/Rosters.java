@@ -0,0 +1,48 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.dto.EmployeeData;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/** Seeded rosters shaped like the mock server's, so every benchmark run sees the same data. */
+public final class Rosters {
+
+    private static final long SEED = 42;
+
+    private Rosters() {}
+
+    public static List<EmployeeData> employeeData(int size) {
+        Random random = new Random(SEED);
+        List<EmployeeData> roster = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            roster.add(EmployeeData.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .name("Employee " + i)
+                    .salary(30_000 + random.nextInt(470_000))
+                    .age(16 + random.nextInt(55))
+                    .title("Engineer " + random.nextInt(40))
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        return roster;
+    }
+
+    public static List<MockEmployee> mockEmployees(int size) {
+        Random random = new Random(SEED);
+        List<MockEmployee> roster = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            roster.add(MockEmployee.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .name("Employee " + i)
+                    .salary(30_000 + random.nextInt(470_000))
+                    .age(16 + random.nextInt(55))
+                    .title("Engineer " + random.nextInt(40))
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        return roster;
+    }
+}
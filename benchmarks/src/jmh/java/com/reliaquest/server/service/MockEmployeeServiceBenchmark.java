@@ -0,0 +1,83 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.benchmarks.Rosters;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.repository.MockEmployeeRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Looks up and deletes employees through {@link MockEmployeeService} on rosters of different sizes. Every delete
+ * saves the employee back, so the roster keeps its size across invocations and the delete scores include that save.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+// a million employees and their indexes outgrow the default heap on small machines
+@Fork(jvmArgsAppend = "-Xmx4g")
+public class MockEmployeeServiceBenchmark {
+
+    private static final int PROBES = 1024;
+
+    @Param({"1000", "100000", "1000000"})
+    private int employees;
+
+    private MockEmployeeRepository repository;
+    private MockEmployeeService service;
+    private MockEmployee[] probes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<MockEmployee> roster = Rosters.mockEmployees(employees);
+        repository = new MockEmployeeRepository(roster);
+        // findById and the deletes never validate
+        service = new MockEmployeeService(new Faker(), repository, null);
+        Random random = new Random(7);
+        probes = new MockEmployee[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = roster.get(random.nextInt(roster.size()));
+        }
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        return service.findById(nextProbe().getId());
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> deleteById() {
+        Optional<MockEmployee> deleted = service.deleteById(nextProbe().getId());
+        deleted.ifPresent(repository::save);
+        return deleted;
+    }
+
+    @Benchmark
+    public boolean deleteByName() {
+        MockEmployee probe = nextProbe();
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName(probe.getName());
+        boolean deleted = service.delete(input);
+        if (deleted) {
+            repository.save(probe);
+        }
+        return deleted;
+    }
+
+    private MockEmployee nextProbe() {
+        return probes[next++ & (PROBES - 1)];
+    }
+}
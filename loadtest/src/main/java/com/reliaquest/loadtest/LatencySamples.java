@@ -0,0 +1,76 @@
+package com.reliaquest.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Every latency recorded for one operation, in nanoseconds, with the outcome counts. Each worker records into its own
+ * instance and the results are merged after the run, so recording needs no synchronization. Not thread-safe.
+ */
+public final class LatencySamples {
+
+    private long[] nanos = new long[1024];
+    private int size;
+    private long succeeded;
+    private long throttled;
+    private long serverErrors;
+    private long otherErrors;
+
+    public void record(long latencyNanos, int status) {
+        if (size == nanos.length) {
+            nanos = Arrays.copyOf(nanos, size * 2);
+        }
+        nanos[size++] = latencyNanos;
+        if (status >= 200 && status < 300) {
+            succeeded++;
+        } else if (status == 429) {
+            throttled++;
+        } else if (status >= 500) {
+            serverErrors++;
+        } else {
+            // other statuses, and 0 for requests that failed without a response
+            otherErrors++;
+        }
+    }
+
+    public void addAll(LatencySamples other) {
+        if (size + other.size > nanos.length) {
+            nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, size + other.size));
+        }
+        System.arraycopy(other.nanos, 0, nanos, size, other.size);
+        size += other.size;
+        succeeded += other.succeeded;
+        throttled += other.throttled;
+        serverErrors += other.serverErrors;
+        otherErrors += other.otherErrors;
+    }
+
+    public int count() {
+        return size;
+    }
+
+    public long succeeded() {
+        return succeeded;
+    }
+
+    public long throttled() {
+        return throttled;
+    }
+
+    public long serverErrors() {
+        return serverErrors;
+    }
+
+    public long otherErrors() {
+        return otherErrors;
+    }
+
+    /** Nearest-rank percentile, {@code 0 < percentile <= 1}, in nanoseconds; 0 when nothing was recorded. */
+    public long percentile(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        Arrays.sort(nanos, 0, size);
+        int rank = (int) Math.ceil(percentile * size);
+        return nanos[Math.max(rank, 1) - 1];
+    }
+}
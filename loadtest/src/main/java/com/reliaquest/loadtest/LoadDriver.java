@@ -0,0 +1,192 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Sends the operation mix at the api from {@code concurrency} virtual threads, each issuing its next request as soon as
+ * the previous one completes (a closed model), and records the latency and status of every request.
+ *
+ * <p>Reads by id draw from the roster the mock server started with plus the employees the run created; deletes only
+ * remove employees the run created, and turn into a read by id while there are none.
+ */
+public class LoadDriver {
+
+    private static final String[] NAME_FRAGMENTS = {"an", "son", "mar", "el", "ri", "ber", "li", "ton"};
+    private static final String MISSING_ID = "00000000-0000-0000-0000-000000000000";
+    private static final String[] TITLES = {"Engineer", "Analyst", "Manager", "Designer", "Consultant"};
+
+    private final URI employees;
+    private final ObjectMapper objectMapper;
+    private final LoadTestOptions options;
+    private final List<String> rosterIds;
+    private final int[] cumulativeWeights;
+    private final Operation[] weightedOperations;
+    private final ConcurrentLinkedDeque<String> createdIds = new ConcurrentLinkedDeque<>();
+    private final HttpClient httpClient;
+
+    public LoadDriver(URI employees, ObjectMapper objectMapper, LoadTestOptions options, List<String> rosterIds) {
+        this.employees = employees;
+        this.objectMapper = objectMapper;
+        this.options = options;
+        this.rosterIds = List.copyOf(rosterIds);
+        List<Operation> operations = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<Operation, Integer> weight : options.mix().entrySet()) {
+            if (weight.getValue() > 0) {
+                total += weight.getValue();
+                operations.add(weight.getKey());
+                cumulative.add(total);
+            }
+        }
+        this.weightedOperations = operations.toArray(Operation[]::new);
+        this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /** Runs the mix for {@code duration} and returns the samples of every operation that ran. */
+    public Map<Operation, LatencySamples> run(Duration duration, long seed) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Map<Operation, LatencySamples>>> workers = new ArrayList<>(options.concurrency());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < options.concurrency(); worker++) {
+                Random random = new Random(seed + worker);
+                workers.add(executor.submit(() -> work(deadline, random)));
+            }
+        }
+        Map<Operation, LatencySamples> merged = new EnumMap<>(Operation.class);
+        for (Future<Map<Operation, LatencySamples>> worker : workers) {
+            try {
+                worker.get()
+                        .forEach((operation, samples) -> merged.computeIfAbsent(operation, o -> new LatencySamples())
+                                .addAll(samples));
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Load worker failed", e.getCause());
+            }
+        }
+        return merged;
+    }
+
+    private Map<Operation, LatencySamples> work(long deadline, Random random) {
+        Map<Operation, LatencySamples> samples = new EnumMap<>(Operation.class);
+        while (System.nanoTime() < deadline) {
+            Operation operation = next(random);
+            String deleteId = null;
+            if (operation == Operation.DELETE) {
+                deleteId = createdIds.pollFirst();
+                if (deleteId == null) {
+                    operation = Operation.BY_ID;
+                }
+            }
+            HttpRequest request = request(operation, random, deleteId);
+            long start = System.nanoTime();
+            int status;
+            String body = null;
+            try {
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                status = response.statusCode();
+                body = response.body();
+            } catch (IOException e) {
+                status = 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            samples.computeIfAbsent(operation, o -> new LatencySamples()).record(System.nanoTime() - start, status);
+            if (operation == Operation.CREATE && status >= 200 && status < 300) {
+                String id = createdId(body);
+                if (id != null) {
+                    createdIds.addLast(id);
+                }
+            } else if (operation == Operation.DELETE && (status < 200 || status >= 300)) {
+                // not deleted, so it can be tried again later
+                createdIds.addLast(deleteId);
+            }
+        }
+        return samples;
+    }
+
+    private Operation next(Random random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return weightedOperations[i];
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    private HttpRequest request(Operation operation, Random random, String deleteId) {
+        return switch (operation) {
+            case LIST -> HttpRequest.newBuilder(employees).GET().build();
+            case SEARCH -> HttpRequest.newBuilder(
+                            resolve("search/" + NAME_FRAGMENTS[random.nextInt(NAME_FRAGMENTS.length)]))
+                    .GET()
+                    .build();
+            case BY_ID -> HttpRequest.newBuilder(resolve(randomId(random))).GET().build();
+            case CREATE -> HttpRequest.newBuilder(employees)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(createBody(random)))
+                    .build();
+            case DELETE -> HttpRequest.newBuilder(resolve(deleteId)).DELETE().build();
+        };
+    }
+
+    private String randomId(Random random) {
+        String created = createdIds.peekLast();
+        if (created != null && (rosterIds.isEmpty() || random.nextBoolean())) {
+            return created;
+        }
+        if (rosterIds.isEmpty()) {
+            // nothing to read yet, the api answers 404
+            return MISSING_ID;
+        }
+        return rosterIds.get(random.nextInt(rosterIds.size()));
+    }
+
+    private String createBody(Random random) {
+        Map<String, Object> employee = Map.of(
+                "name", "Load Test " + Long.toHexString(random.nextLong()),
+                "salary", 30_000 + random.nextInt(470_000),
+                "age", 16 + random.nextInt(60),
+                "title", TITLES[random.nextInt(TITLES.length)]);
+        try {
+            return objectMapper.writeValueAsString(employee);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String createdId(String body) {
+        try {
+            JsonNode id = objectMapper.readTree(body).findValue("id");
+            return id == null || id.isNull() ? null : id.asText();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private URI resolve(String path) {
+        return URI.create(employees + "/" + path);
+    }
+}
@@ -0,0 +1,92 @@
+package com.reliaquest.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Latency percentiles, throughput and outcomes per operation for one measured run, and how many upstream calls the
+ * api made per request it served (amplification): retries, refreshes and fan-out push it above 1, caching and
+ * single-flighting below.
+ */
+public record LoadReport(
+        Map<Operation, LatencySamples> samples, Duration elapsed, long upstreamRequests, long upstreamThrottled) {
+
+    private static final String ROW = "%-8s %9s %10s %9s %9s %9s %9s %9s %7s %7s %7s%n";
+    private static final String COMPARED_ROW = "%-8s %9s %10s %9s %9s %9s %9s %7s %7s %9s %9s%n";
+
+    public LatencySamples total() {
+        LatencySamples total = new LatencySamples();
+        samples.values().forEach(total::addAll);
+        return total;
+    }
+
+    public double amplification() {
+        int requests = total().count();
+        return requests == 0 ? 0 : (double) upstreamRequests / requests;
+    }
+
+    public void print(PrintStream out) {
+        out.printf(
+                ROW, "op", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "2xx", "429", "5xx", "other");
+        samples.forEach((operation, operationSamples) -> row(out, operation.optionName(), operationSamples));
+        row(out, "total", total());
+        out.printf(
+                "%nupstream: %d requests, %d throttled (429), amplification %.2f upstream calls per api request%n",
+                upstreamRequests, upstreamThrottled, amplification());
+    }
+
+    /** The totals of several runs, one row per run in order, under the given labels. */
+    public static void printSideBySide(Map<String, LoadReport> reports, PrintStream out) {
+        out.printf(
+                COMPARED_ROW,
+                "run",
+                "requests",
+                "req/s",
+                "p50 ms",
+                "p99 ms",
+                "p999 ms",
+                "2xx",
+                "429",
+                "5xx",
+                "upstream",
+                "ampl");
+        reports.forEach((label, report) -> {
+            LatencySamples total = report.total();
+            out.printf(
+                    COMPARED_ROW,
+                    label,
+                    total.count(),
+                    "%.1f".formatted(total.count() / (report.elapsed().toNanos() / 1e9)),
+                    millis(total.percentile(0.5)),
+                    millis(total.percentile(0.99)),
+                    millis(total.percentile(0.999)),
+                    total.succeeded(),
+                    total.throttled(),
+                    total.serverErrors(),
+                    report.upstreamRequests(),
+                    "%.2f".formatted(report.amplification()));
+        });
+    }
+
+    private void row(PrintStream out, String name, LatencySamples rowSamples) {
+        double seconds = elapsed.toNanos() / 1e9;
+        out.printf(
+                ROW,
+                name,
+                rowSamples.count(),
+                "%.1f".formatted(rowSamples.count() / seconds),
+                millis(rowSamples.percentile(0.5)),
+                millis(rowSamples.percentile(0.99)),
+                millis(rowSamples.percentile(0.999)),
+                millis(rowSamples.percentile(1)),
+                rowSamples.succeeded(),
+                rowSamples.throttled(),
+                rowSamples.serverErrors(),
+                rowSamples.otherErrors());
+    }
+
+    private static String millis(long nanos) {
+        return "%.2f".formatted(nanos / 1e6);
+    }
+}
@@ -0,0 +1,130 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.server.ServerApplication;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Boots the mock server and the api in this JVM on random ports, points the api at the mock server, drives the
+ * configured request mix at the api and prints a {@link LoadReport}. With {@code --compare} it does so once per value
+ * of an api property, each on freshly started apps, and ends with the reports side by side. See
+ * {@link LoadTestOptions} for the arguments.
+ */
+public final class LoadTest {
+
+    private static final String MOCK_EMPLOYEES = "/api/v1/employee";
+    private static final String API_EMPLOYEES = "/api/v1/employees";
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        LoadTestOptions.Comparison comparison = options.comparison();
+        if (comparison == null) {
+            run(options, Map.of()).print(System.out);
+            return;
+        }
+        Map<String, LoadReport> reports = new LinkedHashMap<>();
+        for (String value : comparison.values()) {
+            System.out.printf("%n%s=%s", comparison.apiProperty(), value);
+            LoadReport report = run(options, Map.of(comparison.apiProperty(), value));
+            report.print(System.out);
+            reports.put(value, report);
+        }
+        System.out.printf("%ncompared %s%n", comparison.apiProperty());
+        LoadReport.printSideBySide(reports, System.out);
+    }
+
+    /** Runs the test on a fresh mock server and api, with apiOverrides on top of the api properties. */
+    private static LoadReport run(LoadTestOptions options, Map<String, Object> apiOverrides) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, Object> upstreamProperties = new LinkedHashMap<>();
+        upstreamProperties.put("spring.config.name", "loadtest-server");
+        upstreamProperties.putAll(options.upstreamProperties());
+        try (ConfigurableApplicationContext server =
+                start(upstreamProperties, ServerApplication.class, Upstream.class)) {
+            String upstreamUrl = "http://localhost:" + port(server);
+            Map<String, Object> apiProperties = new LinkedHashMap<>();
+            apiProperties.put("spring.config.name", "loadtest-api");
+            apiProperties.put("employee.client.base-url", upstreamUrl);
+            apiProperties.putAll(options.apiProperties());
+            apiProperties.putAll(apiOverrides);
+            try (ConfigurableApplicationContext api = start(apiProperties, ApiApplication.class)) {
+                UpstreamCounter upstream = server.getBean(UpstreamCounter.class);
+                LoadDriver driver = new LoadDriver(
+                        URI.create("http://localhost:" + port(api) + API_EMPLOYEES),
+                        objectMapper,
+                        options,
+                        rosterIds(URI.create(upstreamUrl + MOCK_EMPLOYEES), objectMapper));
+
+                System.out.printf(
+                        "%nconcurrency %d, warmup %s, duration %s, mix %s%n",
+                        options.concurrency(), options.warmup(), options.duration(), options.mix());
+                if (!options.warmup().isZero()) {
+                    driver.run(options.warmup(), ~options.seed());
+                }
+                long upstreamRequests = upstream.requests();
+                long upstreamThrottled = upstream.throttled();
+                long start = System.nanoTime();
+                Map<Operation, LatencySamples> samples = driver.run(options.duration(), options.seed());
+                Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+                return new LoadReport(
+                        samples,
+                        elapsed,
+                        upstream.requests() - upstreamRequests,
+                        upstream.throttled() - upstreamThrottled);
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(Map<String, Object> properties, Class<?>... sources) {
+        // as command line arguments they take precedence over the config files
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(sources).run(args);
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    /** The ids of the roster the mock server generated at startup, read from it directly. */
+    private static List<String> rosterIds(URI employees, ObjectMapper objectMapper) throws Exception {
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            HttpResponse<String> response = httpClient.send(
+                    HttpRequest.newBuilder(employees).GET().build(), HttpResponse.BodyHandlers.ofString());
+            List<String> ids = new ArrayList<>();
+            if (response.statusCode() == 200) {
+                for (JsonNode employee : objectMapper.readTree(response.body()).path("data")) {
+                    ids.add(employee.path("id").asText());
+                }
+            }
+            return ids;
+        }
+    }
+
+    /** Added to the mock server's context, where Spring Boot registers the filter bean in front of every request. */
+    @Configuration(proxyBeanMethods = false)
+    static class Upstream {
+
+        @Bean
+        UpstreamCounter upstreamCounter() {
+            return new UpstreamCounter();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.reliaquest.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Command line of a load test, as {@code --key=value} arguments.
+ *
+ * <ul>
+ *   <li>{@code concurrency}: requests in flight at once, one virtual thread each (default 16)
+ *   <li>{@code duration}: how long the measured run lasts (default 30s)
+ *   <li>{@code warmup}: how long load runs before measuring starts (default 5s)
+ *   <li>{@code mix}: relative weight of each operation, e.g. {@code list=20,search=20,by-id=40,create=10,delete=10}
+ *   <li>{@code seed}: seed of the operation and payload choices (default 42)
+ *   <li>{@code api.<property>}, {@code upstream.<property>}: Spring properties for the api or the mock server
+ *   <li>{@code compare}: an api property and the values to run the whole test with, one after the other on fresh
+ *       apps, e.g. {@code spring.threads.virtual.enabled=false,true}; the reports are then printed side by side
+ * </ul>
+ */
+public record LoadTestOptions(
+        int concurrency,
+        Duration duration,
+        Duration warmup,
+        Map<Operation, Integer> mix,
+        long seed,
+        Map<String, Object> apiProperties,
+        Map<String, Object> upstreamProperties,
+        Comparison comparison) {
+
+    private static final String API_PREFIX = "api.";
+    private static final String UPSTREAM_PREFIX = "upstream.";
+
+    public LoadTestOptions {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency must be positive but was " + concurrency);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix must give at least one operation a positive weight");
+        }
+    }
+
+    public static LoadTestOptions parse(String... args) {
+        int concurrency = 16;
+        Duration duration = Duration.ofSeconds(30);
+        Duration warmup = Duration.ofSeconds(5);
+        Map<Operation, Integer> mix = parseMix("list=20,search=20,by-id=40,create=10,delete=10");
+        long seed = 42;
+        Map<String, Object> apiProperties = new LinkedHashMap<>();
+        Map<String, Object> upstreamProperties = new LinkedHashMap<>();
+        Comparison comparison = null;
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --key=value but was " + arg);
+            }
+            String key = arg.substring(2, equals);
+            String value = arg.substring(equals + 1);
+            if (key.startsWith(API_PREFIX)) {
+                apiProperties.put(key.substring(API_PREFIX.length()), value);
+                continue;
+            }
+            if (key.startsWith(UPSTREAM_PREFIX)) {
+                upstreamProperties.put(key.substring(UPSTREAM_PREFIX.length()), value);
+                continue;
+            }
+            switch (key) {
+                case "concurrency" -> concurrency = Integer.parseInt(value);
+                case "duration" -> duration = DurationStyle.detectAndParse(value);
+                case "warmup" -> warmup = DurationStyle.detectAndParse(value);
+                case "mix" -> mix = parseMix(value);
+                case "seed" -> seed = Long.parseLong(value);
+                case "compare" -> comparison = Comparison.parse(value);
+                default -> throw new IllegalArgumentException("Unknown option --" + key);
+            }
+        }
+        return new LoadTestOptions(
+                concurrency, duration, warmup, mix, seed, apiProperties, upstreamProperties, comparison);
+    }
+
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight but was " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight of " + parts[0] + " must not be negative");
+            }
+            weights.put(Operation.fromName(parts[0].trim()), weight);
+        }
+        return weights;
+    }
+
+    /** An api property and the values the test runs with, in order. */
+    public record Comparison(String apiProperty, List<String> values) {
+
+        static Comparison parse(String comparison) {
+            int equals = comparison.indexOf('=');
+            List<String> values = equals < 0
+                    ? List.of()
+                    : Arrays.stream(comparison.substring(equals + 1).split(","))
+                            .map(String::trim)
+                            .toList();
+            if (equals <= 0 || values.size() < 2 || values.contains("")) {
+                throw new IllegalArgumentException(
+                        "Expected --compare=<api property>=<value>,<value>... but was " + comparison);
+            }
+            return new Comparison(comparison.substring(0, equals).trim(), values);
+        }
+    }
+}
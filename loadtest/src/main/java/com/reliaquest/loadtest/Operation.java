@@ -0,0 +1,30 @@
+package com.reliaquest.loadtest;
+
+/** The api requests a load test mixes, named as in the {@code mix} option. */
+public enum Operation {
+    LIST("list"),
+    SEARCH("search"),
+    BY_ID("by-id"),
+    CREATE("create"),
+    DELETE("delete");
+
+    private final String optionName;
+
+    Operation(String optionName) {
+        this.optionName = optionName;
+    }
+
+    public String optionName() {
+        return optionName;
+    }
+
+    static Operation fromName(String name) {
+        for (Operation operation : values()) {
+            if (operation.optionName.equals(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException(
+                "Unknown operation " + name + ", expected list, search, by-id, create or delete");
+    }
+}
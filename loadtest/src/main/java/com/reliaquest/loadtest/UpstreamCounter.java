@@ -0,0 +1,41 @@
+package com.reliaquest.loadtest;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the requests that reach the mock server and how many of them it throttled. Registered as a bean in the mock
+ * server's context, so it sees every call the api makes upstream, including the ones its rate limiter rejects.
+ */
+public class UpstreamCounter implements Filter {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        requests.increment();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (((HttpServletResponse) response).getStatus() == 429) {
+                throttled.increment();
+            }
+        }
+    }
+
+    public long requests() {
+        return requests.sum();
+    }
+
+    public long throttled() {
+        return throttled.sum();
+    }
+}
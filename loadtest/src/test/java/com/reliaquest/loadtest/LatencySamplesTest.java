@@ -0,0 +1,41 @@
+package com.reliaquest.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencySamplesTest {
+
+    @Test
+    void testNearestRankPercentilesAcrossMergedSamples() {
+        LatencySamples first = new LatencySamples();
+        LatencySamples second = new LatencySamples();
+        for (int latency = 1000; latency >= 1; latency--) {
+            (latency % 2 == 0 ? first : second).record(latency, 200);
+        }
+
+        first.addAll(second);
+
+        assertEquals(1000, first.count());
+        assertEquals(500, first.percentile(0.5));
+        assertEquals(990, first.percentile(0.99));
+        assertEquals(999, first.percentile(0.999));
+        assertEquals(1000, first.percentile(1));
+    }
+
+    @Test
+    void testCountsOutcomesByStatus() {
+        LatencySamples samples = new LatencySamples();
+        samples.record(1, 201);
+        samples.record(1, 429);
+        samples.record(1, 500);
+        samples.record(1, 404);
+        samples.record(1, 0);
+
+        assertEquals(1, samples.succeeded());
+        assertEquals(1, samples.throttled());
+        assertEquals(1, samples.serverErrors());
+        assertEquals(2, samples.otherErrors());
+        assertEquals(0, new LatencySamples().percentile(0.99));
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class LoadTestOptionsTest {
+
+    @Test
+    void testDefaultsWithoutArguments() {
+        LoadTestOptions options = LoadTestOptions.parse();
+
+        assertEquals(16, options.concurrency());
+        assertEquals(Duration.ofSeconds(30), options.duration());
+        assertEquals(40, options.mix().get(Operation.BY_ID));
+        assertTrue(options.apiProperties().isEmpty());
+        assertNull(options.comparison());
+    }
+
+    @Test
+    void testParsesOptionsAndSplitsPropertiesByApp() {
+        LoadTestOptions options = LoadTestOptions.parse(
+                "--concurrency=64",
+                "--duration=2m",
+                "--mix=list=1,by-id=3",
+                "--api.employee.cache.ttl=0",
+                "--upstream.mock.employees.max=1000");
+
+        assertEquals(64, options.concurrency());
+        assertEquals(Duration.ofMinutes(2), options.duration());
+        assertEquals(Map.of(Operation.LIST, 1, Operation.BY_ID, 3), options.mix());
+        assertEquals(Map.of("employee.cache.ttl", "0"), options.apiProperties());
+        assertEquals(Map.of("mock.employees.max", "1000"), options.upstreamProperties());
+    }
+
+    @Test
+    void testRejectsUnknownOptionsAndEmptyMix() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("--threads=4"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("--mix=lists=1"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("--mix=list=0"));
+    }
+
+    @Test
+    void testParsesAComparisonOfApiPropertyValues() {
+        LoadTestOptions options = LoadTestOptions.parse("--compare=spring.threads.virtual.enabled=false, true");
+
+        assertEquals("spring.threads.virtual.enabled", options.comparison().apiProperty());
+        assertEquals(List.of("false", "true"), options.comparison().values());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> LoadTestOptions.parse("--compare=spring.threads.virtual.enabled=true"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("--compare=false,true"));
+    }
+}
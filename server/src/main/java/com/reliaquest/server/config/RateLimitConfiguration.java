@@ -0,0 +1,115 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.web.FixedWindowRateLimiter;
+import com.reliaquest.server.web.KeyedRateLimiters;
+import com.reliaquest.server.web.RandomRateLimiter;
+import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import com.reliaquest.server.web.RateLimiter;
+import com.reliaquest.server.web.SlidingWindowRateLimiter;
+import com.reliaquest.server.web.TokenBucketRateLimiter;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Slf4j
+@Configuration
+public class RateLimitConfiguration {
+
+  /*
+   * Selected by mock.rate-limit.strategy. random keeps the original behaviour of a limit and
+   * backoff drawn at startup; with mock.rate-limit.random.seed set it draws the same ones every
+   * run. Scoped per client or route, every bucket draws its own from the same generator.
+   *
+   * mock.rate-limit.scope is global, client, route or client-route. Buckets beyond
+   * mock.rate-limit.max-keys, or idle for mock.rate-limit.idle-timeout, are evicted.
+   */
+  @Bean
+  public KeyedRateLimiters rateLimiters(
+      @Value("${mock.rate-limit.strategy:random}") String strategy,
+      @Value("${mock.rate-limit.scope:global}") String scope,
+      @Value("${mock.rate-limit.limit:10}") int limit,
+      @Value("${mock.rate-limit.window:60s}") Duration window,
+      @Value("${mock.rate-limit.max-keys:10000}") int maxKeys,
+      @Value("${mock.rate-limit.idle-timeout:10m}") Duration idleTimeout,
+      @Value("${mock.rate-limit.random.seed:#{null}}") Long seed,
+      @Value("${mock.rate-limit.random.min-limit:5}") int minLimit,
+      @Value("${mock.rate-limit.random.max-limit:10}") int maxLimit,
+      @Value("${mock.rate-limit.random.min-backoff:30s}") Duration minBackoff,
+      @Value("${mock.rate-limit.random.max-backoff:90s}") Duration maxBackoff) {
+    final Function<String, RateLimiter> factory =
+        switch (strategy) {
+          case "fixed-window" -> key -> new FixedWindowRateLimiter(limit, window.toMillis());
+          case "sliding-window" -> key -> new SlidingWindowRateLimiter(limit, window.toMillis());
+          case "token-bucket" -> key -> new TokenBucketRateLimiter(limit, window.toMillis());
+          case "random" -> {
+            final var random = seed == null ? new Random() : new Random(seed);
+            yield key -> {
+              final var rateLimiter =
+                  RandomRateLimiter.drawnFrom(
+                      random, minLimit, maxLimit, minBackoff.toMillis(), maxBackoff.toMillis());
+              log.info(
+                  "Rate limiting '{}' after {} requests for {} ms",
+                  key,
+                  rateLimiter.limit(),
+                  rateLimiter.backoffMillis());
+              return rateLimiter;
+            };
+          }
+          default ->
+              throw new IllegalArgumentException(
+                  "mock.rate-limit.strategy must be random, fixed-window, sliding-window or"
+                      + " token-bucket but was "
+                      + strategy);
+        };
+    if (scope(scope) == RandomRequestLimitInterceptor.Scope.GLOBAL) {
+      // one limiter for good, so evicting the single idle key cannot redraw a random profile
+      final var shared = factory.apply("");
+      return new KeyedRateLimiters(key -> shared, 1, idleTimeout.toMillis());
+    }
+    return new KeyedRateLimiters(factory, maxKeys, idleTimeout.toMillis());
+  }
+
+  /*
+   * mock.rate-limit.cost maps a route, the kebab-case name of its MockEmployeeController method
+   * such as get-employees, to the permits one request takes; routes not listed cost 1.
+   * mock.rate-limit.client-ids lists the X-Client-Id values that name a client; any other request
+   * is bucketed by its remote address.
+   */
+  @Bean
+  public RandomRequestLimitInterceptor randomRequestLimitInterceptor(
+      KeyedRateLimiters rateLimiters,
+      @Value("${mock.rate-limit.scope:global}") String scope,
+      Environment environment) {
+    final var costs =
+        Binder.get(environment)
+            .bind("mock.rate-limit.cost", Bindable.mapOf(String.class, Integer.class))
+            .orElse(Map.of());
+    final var clientIds =
+        Binder.get(environment)
+            .bind("mock.rate-limit.client-ids", Bindable.setOf(String.class))
+            .orElse(Set.of());
+    return new RandomRequestLimitInterceptor(rateLimiters, scope(scope), costs, clientIds);
+  }
+
+  private static RandomRequestLimitInterceptor.Scope scope(String scope) {
+    return switch (scope) {
+      case "global" -> RandomRequestLimitInterceptor.Scope.GLOBAL;
+      case "client" -> RandomRequestLimitInterceptor.Scope.CLIENT;
+      case "route" -> RandomRequestLimitInterceptor.Scope.ROUTE;
+      case "client-route" -> RandomRequestLimitInterceptor.Scope.CLIENT_ROUTE;
+      default ->
+          throw new IllegalArgumentException(
+              "mock.rate-limit.scope must be global, client, route or client-route but was "
+                  + scope);
+    };
+  }
+}
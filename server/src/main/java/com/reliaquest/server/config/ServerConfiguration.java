@@ -1,13 +1,15 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.repository.MockEmployeeRepository;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import net.datafaker.transformations.Field;
@@ -16,25 +18,31 @@ import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class ServerConfiguration implements WebMvcConfigurer {
 
   public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+  private final RandomRequestLimitInterceptor randomRequestLimitInterceptor;
+
   @Bean
   public Faker faker() {
     return new Faker(Locale.getDefault());
   }
 
   /*
-   * This list is modifiable by design for CRUD operations.
+   * This repository is modifiable by design for CRUD operations.
    */
   @Bean
-  public List<MockEmployee> mockEmployees(
+  public MockEmployeeRepository mockEmployeeRepository(
       Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
     final var transformer = new JavaObjectTransformer();
     final var schema =
@@ -49,11 +57,30 @@ public class ServerConfiguration implements WebMvcConfigurer {
     return IntStream.rangeClosed(1, maxEmployees)
         .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
         .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-        .collect(Collectors.toCollection(ArrayList::new));
+        .collect(Collectors.collectingAndThen(Collectors.toList(), MockEmployeeRepository::new));
+  }
+
+  /*
+   * Binary alternatives to JSON for clients that ask for them with Accept. Built from Boot's
+   * Jackson2ObjectMapperBuilder so they serialize exactly like the JSON ObjectMapper, and replace
+   * the converters Spring MVC would otherwise build from plain defaults. JSON stays the default.
+   */
+  @Bean
+  public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2SmileHttpMessageConverter(
+        builder.factory(new SmileFactory()).build());
+  }
+
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2CborHttpMessageConverter(
+        builder.factory(new CBORFactory()).build());
   }
 
   @Override
   public void addInterceptors(InterceptorRegistry registry) {
-    registry.addInterceptor(new RandomRequestLimitInterceptor());
+    registry.addInterceptor(randomRequestLimitInterceptor);
   }
 }
@@ -1,22 +1,32 @@
 package com.reliaquest.server.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.model.SalaryStats;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.MockEmployeeListWriter;
+import com.reliaquest.server.web.PageCursor;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -25,10 +35,52 @@ import org.springframework.web.bind.annotation.RestController;
 public class MockEmployeeController {
 
   private final MockEmployeeService mockEmployeeService;
+  private final MockEmployeeListWriter mockEmployeeListWriter;
+  private final ObjectMapper objectMapper;
 
+  /*
+   * Streamed rather than returned as Response<List<MockEmployee>>, see MockEmployeeListWriter.
+   * Written on the request thread so the rate limit interceptor sees a single dispatch.
+   *
+   * Optional name filters to employees whose name contains it, ignoring case. limit pages the
+   * result; the next page is requested with offset, or with the next_cursor of the previous page,
+   * which unlike an offset does not shift when earlier employees are deleted.
+   *
+   * Written as JSON unless Accept asks for Smile or CBOR, see MockEmployeeListWriter.negotiate.
+   */
   @GetMapping()
-  public Response<List<MockEmployee>> getEmployees() {
-    return Response.handledWith(mockEmployeeService.getMockEmployees());
+  public void getEmployees(
+      @RequestParam(name = "name", required = false) String name,
+      @RequestParam(name = "offset", defaultValue = "0") int offset,
+      @RequestParam(name = "limit", required = false) Integer limit,
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+      HttpServletResponse response)
+      throws IOException {
+    final var mediaType = mockEmployeeListWriter.negotiate(accept);
+    response.setContentType(mediaType.toString());
+    response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    if (name == null && offset == 0 && limit == null && cursor == null) {
+      mockEmployeeListWriter.write(
+          mediaType, mockEmployeeService.getMockEmployees(), null, response.getOutputStream());
+      return;
+    }
+    final var afterSequence = cursor == null ? null : PageCursor.decode(cursor);
+    if (offset < 0 || (limit != null && limit <= 0) || (cursor != null && afterSequence == null)) {
+      response.setStatus(HttpStatus.BAD_REQUEST.value());
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      objectMapper.writeValue(
+          response.getOutputStream(), Response.error("Invalid offset, limit or cursor."));
+      return;
+    }
+    final var page =
+        mockEmployeeService.findPage(
+            name, afterSequence, offset, limit == null ? Integer.MAX_VALUE : limit);
+    mockEmployeeListWriter.write(
+        mediaType,
+        page.employees(),
+        page.nextSequence() == null ? null : PageCursor.encode(page.nextSequence()),
+        response.getOutputStream());
   }
 
   @GetMapping("/{id}")
@@ -39,13 +91,73 @@ public class MockEmployeeController {
         .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
   }
 
+  /*
+   * Served from aggregates the repository keeps up to date on every write, so none of the stats
+   * routes scan or transfer the roster.
+   */
+  @GetMapping("/stats")
+  public Response<SalaryStats> getSalaryStats() {
+    return Response.handledWith(mockEmployeeService.getSalaryStats());
+  }
+
+  @GetMapping("/stats/highest-salary")
+  public ResponseEntity<Response<Integer>> getHighestSalary() {
+    final var highestSalary = mockEmployeeService.findHighestSalary();
+    if (highestSalary.isEmpty()) {
+      return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled());
+    }
+    return ResponseEntity.ok(Response.handledWith(highestSalary.getAsInt()));
+  }
+
+  @GetMapping("/stats/top-earners")
+  public ResponseEntity<Response<List<MockEmployee>>> getTopEarners(
+      @RequestParam(name = "k", defaultValue = "10") int k) {
+    if (k <= 0) {
+      return ResponseEntity.badRequest().body(Response.error("k must be positive."));
+    }
+    return ResponseEntity.ok(Response.handledWith(mockEmployeeService.findTopEarners(k)));
+  }
+
   @PostMapping()
   public Response<MockEmployee> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
     return Response.handledWith(mockEmployeeService.create(input));
   }
 
+  /*
+   * Deletes exactly the employee with this id, found through the id index. Answers with the deleted
+   * employee, or 404 like getEmployee.
+   */
+  @DeleteMapping("/{id}")
+  public ResponseEntity<Response<MockEmployee>> deleteEmployeeById(@PathVariable("id") UUID uuid) {
+    return mockEmployeeService
+        .deleteById(uuid)
+        .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+        .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+  }
+
+  /*
+   * Deletes the first employee with this name, ignoring case. Kept for existing clients; prefer
+   * deleting by id, which cannot hit a namesake.
+   */
   @DeleteMapping()
   public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
     return Response.handledWith(mockEmployeeService.delete(input));
   }
+
+  /*
+   * One result per input, in order: the created employee, or the validation error of that input.
+   */
+  @PostMapping("/batch")
+  public Response<List<Response<MockEmployee>>> createEmployees(
+      @RequestBody List<CreateMockEmployeeInput> inputs) {
+    return Response.handledWith(mockEmployeeService.createAll(inputs));
+  }
+
+  /*
+   * Takes employee ids. One result per id, in order: whether that employee was deleted.
+   */
+  @DeleteMapping("/batch")
+  public Response<List<Response<Boolean>>> deleteEmployees(@RequestBody List<UUID> ids) {
+    return Response.handledWith(mockEmployeeService.deleteAllById(ids));
+  }
 }
@@ -0,0 +1,12 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/*
+ * Salary aggregates over the whole roster. mean, min and max are null when there are no employees
+ * with a salary.
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record SalaryStats(
+    int count, long totalSalary, Double meanSalary, Integer minSalary, Integer maxSalary) {}
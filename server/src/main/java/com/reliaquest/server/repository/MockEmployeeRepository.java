@@ -0,0 +1,362 @@
+package com.reliaquest.server.repository;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.SalaryStats;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.NonNull;
+
+/*
+ * In-memory employee store indexed by id, by case-insensitive name and by salary. Lookups by id
+ * are O(1), by name and salary O(log n), and iteration keeps insertion order, so the list endpoint
+ * and delete-by-name (first match wins) behave as they did on a plain list.
+ *
+ * Safe for concurrent use. Readers never lock and never see a torn store: the roster, name and
+ * salary indexes and the aggregates live in one immutable Store of persistent maps, and every
+ * write publishes a new one with a single volatile swap. Writers are serialized by a lock. A single
+ * save or delete copies only the O(log n) tree paths it changes; a batch applies all of its rows
+ * before the swap, so readers see either none or all of it. The id index is a concurrent map
+ * beside the store for O(1) lookups; it gains an employee before the store that lists it and
+ * loses one only after, so every employee a reader lists can be found by id.
+ *
+ * Salary aggregates (count and sum, and a salary-ordered index for min, max and top earners) are
+ * updated on every put and remove, so stats and top earners are answered without scanning the
+ * roster.
+ *
+ * Every employee also gets an increasing sequence number when first saved. The roster is kept in
+ * sequence order and findPage() uses it as a stable position, so a cursor stays valid when
+ * employees before it are deleted. findAll() copies a store's roster into a list once, on its first
+ * read.
+ */
+public class MockEmployeeRepository {
+
+  private final ReentrantLock writeLock = new ReentrantLock();
+  private final ConcurrentHashMap<UUID, Entry> entriesById = new ConcurrentHashMap<>();
+  private volatile Store store = Store.EMPTY;
+
+  public MockEmployeeRepository(@NonNull Collection<MockEmployee> employees) {
+    saveAll(employees);
+  }
+
+  public List<MockEmployee> findAll() {
+    return store.listing();
+  }
+
+  /*
+   * Employees whose lower-cased name contains nameFragment (all when null), in insertion order.
+   * Starts after the employee with sequence afterSequence when given, then skips offset matches and
+   * returns up to limit. nextSequence is set when more matches follow the page.
+   */
+  public Page findPage(String nameFragment, Long afterSequence, int offset, int limit) {
+    final var entries = store.entriesBySequence;
+    final var query = nameFragment == null ? null : nameFragment.toLowerCase();
+    final var matches = new ArrayList<MockEmployee>(Math.min(limit, entries.size()));
+    final var from = afterSequence == null ? entries.values() : entries.valuesAfter(afterSequence);
+    var skipped = 0;
+    var lastSequence = 0L;
+    for (final var entry : from) {
+      if (query != null && (entry.lowerName() == null || !entry.lowerName().contains(query))) {
+        continue;
+      }
+      if (matches.size() == limit) {
+        return new Page(matches, lastSequence);
+      }
+      if (skipped < offset) {
+        skipped++;
+        continue;
+      }
+      matches.add(entry.employee());
+      lastSequence = entry.sequence();
+    }
+    return new Page(matches, null);
+  }
+
+  public Optional<MockEmployee> findById(@NonNull UUID id) {
+    return Optional.ofNullable(entriesById.get(id)).map(Entry::employee);
+  }
+
+  public Optional<MockEmployee> findFirstByName(@NonNull String name) {
+    return store.firstByName(name).map(Entry::employee);
+  }
+
+  public void save(@NonNull MockEmployee employee) {
+    requireId(employee);
+    writeLock.lock();
+    try {
+      store = put(store, employee);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /*
+   * Saves all employees as one write with a single swap, so readers see either none or all of them.
+   */
+  public void saveAll(@NonNull Collection<MockEmployee> employees) {
+    employees.forEach(MockEmployeeRepository::requireId);
+    writeLock.lock();
+    try {
+      var next = store;
+      for (final var employee : employees) {
+        next = put(next, employee);
+      }
+      store = next;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /*
+   * Deletes all ids as one write, like saveAll. The result has one entry per id, in order, empty
+   * for ids that were not found (or already deleted earlier in the same batch).
+   */
+  public List<Optional<MockEmployee>> deleteAllById(@NonNull List<UUID> ids) {
+    writeLock.lock();
+    try {
+      var next = store;
+      final var removed = new ArrayList<Entry>(ids.size());
+      final var deleted = new ArrayList<Optional<MockEmployee>>(ids.size());
+      for (final var id : ids) {
+        final var entry = id == null ? null : entriesById.get(id);
+        if (entry == null || next.entriesBySequence.get(entry.sequence()) == null) {
+          deleted.add(Optional.empty());
+          continue;
+        }
+        next = next.without(entry);
+        removed.add(entry);
+        deleted.add(Optional.of(entry.employee()));
+      }
+      store = next;
+      removed.forEach(entry -> entriesById.remove(entry.employee().getId()));
+      return deleted;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  public Optional<MockEmployee> deleteById(@NonNull UUID id) {
+    writeLock.lock();
+    try {
+      return remove(entriesById.get(id));
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  public Optional<MockEmployee> deleteFirstByName(@NonNull String name) {
+    writeLock.lock();
+    try {
+      return remove(store.firstByName(name).orElse(null));
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  public int count() {
+    return store.entriesBySequence.size();
+  }
+
+  public OptionalInt findHighestSalary() {
+    final var highest = store.entriesBySalary.first();
+    return highest == null ? OptionalInt.empty() : OptionalInt.of(highest.salary());
+  }
+
+  /*
+   * Highest salary first; equal salaries keep insertion order.
+   */
+  public List<MockEmployee> findTopEarners(int limit) {
+    final var current = store;
+    final var top = new ArrayList<MockEmployee>(Math.min(limit, current.entriesBySalary.size()));
+    for (final var entry : current.entriesBySalary.values()) {
+      if (top.size() == limit) {
+        break;
+      }
+      top.add(entry.employee());
+    }
+    return top;
+  }
+
+  public SalaryStats salaryStats() {
+    final var current = store;
+    if (current.salaryCount == 0) {
+      return new SalaryStats(0, 0L, null, null, null);
+    }
+    return new SalaryStats(
+        current.salaryCount,
+        current.salarySum,
+        (double) current.salarySum / current.salaryCount,
+        current.entriesBySalary.last().salary(),
+        current.entriesBySalary.first().salary());
+  }
+
+  /*
+   * The store with employee saved. The id index gets the new entry right away, before the store
+   * listing it is published.
+   */
+  private Store put(Store current, MockEmployee employee) {
+    final var previous = entriesById.get(employee.getId());
+    // a replaced employee keeps its place in insertion order, and with it its sequence
+    final var sequence = previous == null ? current.nextSequence : previous.sequence();
+    final var name = employee.getName();
+    final var entry = new Entry(employee, sequence, name == null ? null : name.toLowerCase());
+    entriesById.put(employee.getId(), entry);
+    final var next = previous == null ? current : current.without(previous);
+    return next.with(entry, previous == null ? current.nextSequence + 1 : current.nextSequence);
+  }
+
+  /*
+   * Publishes the store without entry, then drops it from the id index.
+   */
+  private Optional<MockEmployee> remove(Entry entry) {
+    if (entry == null) {
+      return Optional.empty();
+    }
+    store = store.without(entry);
+    entriesById.remove(entry.employee().getId());
+    return Optional.of(entry.employee());
+  }
+
+  private static void requireId(MockEmployee employee) {
+    Objects.requireNonNull(employee.getId(), "employee id");
+  }
+
+  public record Page(List<MockEmployee> employees, Long nextSequence) {}
+
+  /*
+   * An employee with its sequence number and lower-cased name, shared by all indexes.
+   */
+  private record Entry(MockEmployee employee, long sequence, String lowerName) {
+
+    Integer salary() {
+      return employee.getSalary();
+    }
+  }
+
+  /*
+   * Highest salary first, then lowest sequence.
+   */
+  private record SalaryKey(int salary, long sequence) implements Comparable<SalaryKey> {
+
+    @Override
+    public int compareTo(SalaryKey other) {
+      final var bySalary = Integer.compare(other.salary, salary);
+      return bySalary != 0 ? bySalary : Long.compare(sequence, other.sequence);
+    }
+  }
+
+  /*
+   * Case-insensitive name, then sequence, so the first entry at or after (name, MIN_VALUE) is the
+   * first namesake in insertion order.
+   */
+  private record NameKey(String name, long sequence) implements Comparable<NameKey> {
+
+    @Override
+    public int compareTo(NameKey other) {
+      final var byName = name.compareTo(other.name);
+      return byName != 0 ? byName : Long.compare(sequence, other.sequence);
+    }
+  }
+
+  /*
+   * One committed state of the repository. Never changed once published; with() and without()
+   * return a new store that shares everything but the changed tree paths.
+   */
+  private static final class Store {
+
+    static final Store EMPTY =
+        new Store(
+            PersistentTreeMap.empty(),
+            PersistentTreeMap.empty(),
+            PersistentTreeMap.empty(),
+            0,
+            0,
+            0L);
+
+    private final PersistentTreeMap<Long, Entry> entriesBySequence;
+    private final PersistentTreeMap<NameKey, Entry> entriesByName;
+    private final PersistentTreeMap<SalaryKey, Entry> entriesBySalary;
+    private final long nextSequence;
+    private final int salaryCount;
+    private final long salarySum;
+    // built on the first findAll() of this store; racing readers may both build it, to equal lists
+    private volatile List<MockEmployee> listing;
+
+    private Store(
+        PersistentTreeMap<Long, Entry> entriesBySequence,
+        PersistentTreeMap<NameKey, Entry> entriesByName,
+        PersistentTreeMap<SalaryKey, Entry> entriesBySalary,
+        long nextSequence,
+        int salaryCount,
+        long salarySum) {
+      this.entriesBySequence = entriesBySequence;
+      this.entriesByName = entriesByName;
+      this.entriesBySalary = entriesBySalary;
+      this.nextSequence = nextSequence;
+      this.salaryCount = salaryCount;
+      this.salarySum = salarySum;
+    }
+
+    List<MockEmployee> listing() {
+      var employees = listing;
+      if (employees == null) {
+        final var built = new ArrayList<MockEmployee>(entriesBySequence.size());
+        entriesBySequence.values().forEach(entry -> built.add(entry.employee()));
+        employees = List.copyOf(built);
+        listing = employees;
+      }
+      return employees;
+    }
+
+    Optional<Entry> firstByName(String name) {
+      final var key = nameKey(name);
+      final var first = entriesByName.ceiling(new NameKey(key, Long.MIN_VALUE));
+      return first == null || !key.equals(nameKey(first.employee().getName()))
+          ? Optional.empty()
+          : Optional.of(first);
+    }
+
+    Store with(Entry entry, long nextSequence) {
+      final var name = entry.employee().getName();
+      final var salary = entry.salary();
+      return new Store(
+          entriesBySequence.put(entry.sequence(), entry),
+          name == null
+              ? entriesByName
+              : entriesByName.put(new NameKey(nameKey(name), entry.sequence()), entry),
+          salary == null
+              ? entriesBySalary
+              : entriesBySalary.put(new SalaryKey(salary, entry.sequence()), entry),
+          nextSequence,
+          salary == null ? salaryCount : salaryCount + 1,
+          salary == null ? salarySum : salarySum + salary);
+    }
+
+    Store without(Entry entry) {
+      final var name = entry.employee().getName();
+      final var salary = entry.salary();
+      return new Store(
+          entriesBySequence.remove(entry.sequence()),
+          name == null
+              ? entriesByName
+              : entriesByName.remove(new NameKey(nameKey(name), entry.sequence())),
+          salary == null
+              ? entriesBySalary
+              : entriesBySalary.remove(new SalaryKey(salary, entry.sequence())),
+          nextSequence,
+          salary == null ? salaryCount : salaryCount - 1,
+          salary == null ? salarySum : salarySum - salary);
+    }
+
+    private static String nameKey(String name) {
+      return name.toLowerCase(Locale.ROOT);
+    }
+  }
+}
@@ -0,0 +1,242 @@
+package com.reliaquest.server.repository;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/*
+ * Immutable sorted map: put and remove return a new map and leave this one untouched. Kept as an
+ * AVL tree whose writes copy only the path from the root to the changed node, so a write is
+ * O(log n) in time and allocation and every version stays valid for readers that still hold it.
+ *
+ * Keys must not be null. Values are not checked but get() returns null for a missing key, so the
+ * repository only stores non-null values.
+ */
+final class PersistentTreeMap<K extends Comparable<? super K>, V> {
+
+  private static final PersistentTreeMap<?, ?> EMPTY = new PersistentTreeMap<>(null, 0);
+
+  private final Node<K, V> root;
+  private final int size;
+
+  private PersistentTreeMap(Node<K, V> root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <K extends Comparable<? super K>, V> PersistentTreeMap<K, V> empty() {
+    return (PersistentTreeMap<K, V>) EMPTY;
+  }
+
+  int size() {
+    return size;
+  }
+
+  V get(K key) {
+    var node = root;
+    while (node != null) {
+      final var order = key.compareTo(node.key);
+      if (order == 0) {
+        return node.value;
+      }
+      node = order < 0 ? node.left : node.right;
+    }
+    return null;
+  }
+
+  /*
+   * The value of the least key greater than or equal to key, null when there is none.
+   */
+  V ceiling(K key) {
+    V ceiling = null;
+    var node = root;
+    while (node != null) {
+      final var order = key.compareTo(node.key);
+      if (order == 0) {
+        return node.value;
+      }
+      if (order < 0) {
+        ceiling = node.value;
+        node = node.left;
+      } else {
+        node = node.right;
+      }
+    }
+    return ceiling;
+  }
+
+  V first() {
+    var node = root;
+    while (node != null && node.left != null) {
+      node = node.left;
+    }
+    return node == null ? null : node.value;
+  }
+
+  V last() {
+    var node = root;
+    while (node != null && node.right != null) {
+      node = node.right;
+    }
+    return node == null ? null : node.value;
+  }
+
+  PersistentTreeMap<K, V> put(K key, V value) {
+    final var grows = get(key) == null;
+    return new PersistentTreeMap<>(put(root, key, value), grows ? size + 1 : size);
+  }
+
+  PersistentTreeMap<K, V> remove(K key) {
+    if (get(key) == null) {
+      return this;
+    }
+    return new PersistentTreeMap<>(remove(root, key), size - 1);
+  }
+
+  /*
+   * Values in key order.
+   */
+  Iterable<V> values() {
+    return () -> new ValueIterator<>(root, null);
+  }
+
+  /*
+   * Values of the keys greater than after, in key order.
+   */
+  Iterable<V> valuesAfter(K after) {
+    return () -> new ValueIterator<>(root, after);
+  }
+
+  private static <K extends Comparable<? super K>, V> Node<K, V> put(
+      Node<K, V> node, K key, V value) {
+    if (node == null) {
+      return new Node<>(key, value, null, null);
+    }
+    final var order = key.compareTo(node.key);
+    if (order == 0) {
+      return new Node<>(key, value, node.left, node.right);
+    }
+    return order < 0
+        ? balance(node.key, node.value, put(node.left, key, value), node.right)
+        : balance(node.key, node.value, node.left, put(node.right, key, value));
+  }
+
+  private static <K extends Comparable<? super K>, V> Node<K, V> remove(Node<K, V> node, K key) {
+    final var order = key.compareTo(node.key);
+    if (order < 0) {
+      return balance(node.key, node.value, remove(node.left, key), node.right);
+    }
+    if (order > 0) {
+      return balance(node.key, node.value, node.left, remove(node.right, key));
+    }
+    if (node.left == null) {
+      return node.right;
+    }
+    if (node.right == null) {
+      return node.left;
+    }
+    var successor = node.right;
+    while (successor.left != null) {
+      successor = successor.left;
+    }
+    return balance(successor.key, successor.value, node.left, removeFirst(node.right));
+  }
+
+  private static <K, V> Node<K, V> removeFirst(Node<K, V> node) {
+    if (node.left == null) {
+      return node.right;
+    }
+    return balance(node.key, node.value, removeFirst(node.left), node.right);
+  }
+
+  /*
+   * A node for key over left and right, rotated once or twice when their heights differ by two.
+   */
+  private static <K, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right) {
+    if (height(left) > height(right) + 1) {
+      if (height(left.left) >= height(left.right)) {
+        return new Node<>(
+            left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+      }
+      final var pivot = left.right;
+      return new Node<>(
+          pivot.key,
+          pivot.value,
+          new Node<>(left.key, left.value, left.left, pivot.left),
+          new Node<>(key, value, pivot.right, right));
+    }
+    if (height(right) > height(left) + 1) {
+      if (height(right.right) >= height(right.left)) {
+        return new Node<>(
+            right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+      }
+      final var pivot = right.left;
+      return new Node<>(
+          pivot.key,
+          pivot.value,
+          new Node<>(key, value, left, pivot.left),
+          new Node<>(right.key, right.value, pivot.right, right.right));
+    }
+    return new Node<>(key, value, left, right);
+  }
+
+  private static int height(Node<?, ?> node) {
+    return node == null ? 0 : node.height;
+  }
+
+  private static final class Node<K, V> {
+
+    private final K key;
+    private final V value;
+    private final Node<K, V> left;
+    private final Node<K, V> right;
+    private final int height;
+
+    Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+      this.key = key;
+      this.value = value;
+      this.left = left;
+      this.right = right;
+      this.height = 1 + Math.max(height(left), height(right));
+    }
+  }
+
+  /*
+   * In-order walk holding the path to the next node, O(log n) memory.
+   */
+  private static final class ValueIterator<K extends Comparable<? super K>, V>
+      implements Iterator<V> {
+
+    private final ArrayDeque<Node<K, V>> path = new ArrayDeque<>();
+
+    ValueIterator(Node<K, V> root, K after) {
+      var node = root;
+      while (node != null) {
+        if (after == null || node.key.compareTo(after) > 0) {
+          path.push(node);
+          node = node.left;
+        } else {
+          node = node.right;
+        }
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !path.isEmpty();
+    }
+
+    @Override
+    public V next() {
+      if (path.isEmpty()) {
+        throw new NoSuchElementException();
+      }
+      final var node = path.pop();
+      for (var next = node.right; next != null; next = next.left) {
+        path.push(next);
+      }
+      return node.value;
+    }
+  }
+}
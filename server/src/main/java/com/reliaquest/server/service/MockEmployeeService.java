@@ -4,11 +4,18 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.model.SalaryStats;
+import com.reliaquest.server.repository.MockEmployeeRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,14 +29,33 @@ public class MockEmployeeService {
 
   private final Faker faker;
 
-  @Getter private final List<MockEmployee> mockEmployees;
+  private final MockEmployeeRepository mockEmployeeRepository;
+
+  private final Validator validator;
+
+  public List<MockEmployee> getMockEmployees() {
+    return mockEmployeeRepository.findAll();
+  }
+
+  public MockEmployeeRepository.Page findPage(
+      String nameFragment, Long afterSequence, int offset, int limit) {
+    return mockEmployeeRepository.findPage(nameFragment, afterSequence, offset, limit);
+  }
 
   public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-    return mockEmployees.stream()
-        .filter(
-            mockEmployee ->
-                Objects.nonNull(mockEmployee.getId()) && mockEmployee.getId().equals(uuid))
-        .findFirst();
+    return mockEmployeeRepository.findById(uuid);
+  }
+
+  public SalaryStats getSalaryStats() {
+    return mockEmployeeRepository.salaryStats();
+  }
+
+  public OptionalInt findHighestSalary() {
+    return mockEmployeeRepository.findHighestSalary();
+  }
+
+  public List<MockEmployee> findTopEarners(int limit) {
+    return mockEmployeeRepository.findTopEarners(limit);
   }
 
   public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,25 +63,68 @@ public class MockEmployeeService {
         MockEmployee.from(
             ServerConfiguration.EMAIL_TEMPLATE.formatted(faker.twitter().userName().toLowerCase()),
             input);
-    mockEmployees.add(mockEmployee);
+    mockEmployeeRepository.save(mockEmployee);
     log.debug("Added employee: {}", mockEmployee);
     return mockEmployee;
   }
 
-  public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-    final var mockEmployee =
-        mockEmployees.stream()
-            .filter(
-                employee ->
-                    Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-            .findFirst();
-    if (mockEmployee.isPresent()) {
-      mockEmployees.remove(mockEmployee.get());
-      log.debug("Removed employee: {}", mockEmployee.get());
-      return true;
+  /*
+   * Validates each input on its own so one bad record does not reject the batch, then stores every
+   * valid one in a single repository write. Results are in input order.
+   */
+  public List<Response<MockEmployee>> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+    final var results = new ArrayList<Response<MockEmployee>>(inputs.size());
+    final var created = new ArrayList<MockEmployee>(inputs.size());
+    for (final var input : inputs) {
+      final var violations =
+          input == null ? "employee must not be null" : violations(validator.validate(input));
+      if (violations != null) {
+        results.add(Response.error(violations));
+        continue;
+      }
+      final var mockEmployee =
+          MockEmployee.from(
+              ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                  faker.twitter().userName().toLowerCase()),
+              input);
+      created.add(mockEmployee);
+      results.add(Response.handledWith(mockEmployee));
     }
+    mockEmployeeRepository.saveAll(created);
+    log.debug("Added {} of {} employees in batch", created.size(), inputs.size());
+    return results;
+  }
+
+  public List<Response<Boolean>> deleteAllById(@NonNull List<UUID> ids) {
+    final var deleted = mockEmployeeRepository.deleteAllById(ids);
+    log.debug(
+        "Removed {} of {} employees in batch",
+        deleted.stream().filter(Optional::isPresent).count(),
+        ids.size());
+    return deleted.stream()
+        .map(employee -> Response.handledWith(employee.isPresent()))
+        .collect(Collectors.toList());
+  }
 
-    return false;
+  public Optional<MockEmployee> deleteById(@NonNull UUID uuid) {
+    final var mockEmployee = mockEmployeeRepository.deleteById(uuid);
+    mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+    return mockEmployee;
+  }
+
+  public boolean delete(@NonNull DeleteMockEmployeeInput input) {
+    final var mockEmployee = mockEmployeeRepository.deleteFirstByName(input.getName());
+    mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+    return mockEmployee.isPresent();
+  }
+
+  private static String violations(Set<ConstraintViolation<CreateMockEmployeeInput>> violations) {
+    if (violations.isEmpty()) {
+      return null;
+    }
+    return violations.stream()
+        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+        .sorted()
+        .collect(Collectors.joining(", "));
   }
 }
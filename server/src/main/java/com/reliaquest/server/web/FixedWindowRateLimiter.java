@@ -0,0 +1,70 @@
+package com.reliaquest.server.web;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Admits up to limit requests per window. A window opens with the first request after the previous
+ * one closed, so an idle limiter starts with its full budget.
+ *
+ * The window start and the count share one AtomicLong, start in the high bits and count in the low
+ * COUNT_BITS, and every admission is a single compare-and-set of both, so concurrent requests can
+ * neither over-admit nor lose a reset, and no request allocates.
+ */
+public class FixedWindowRateLimiter implements RateLimiter {
+
+  static final int COUNT_BITS = 20;
+  static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+  private final int limit;
+  private final long windowMillis;
+  private final AtomicLong state = new AtomicLong();
+
+  public FixedWindowRateLimiter(int limit, long windowMillis) {
+    if (limit <= 0 || limit > COUNT_MASK || windowMillis <= 0) {
+      throw new IllegalArgumentException(
+          "limit must be in [1, " + COUNT_MASK + "] and window positive");
+    }
+    this.limit = limit;
+    this.windowMillis = windowMillis;
+  }
+
+  @Override
+  public boolean tryAcquire(long nowMillis, int permits) {
+    final var cost = Math.min(permits, limit);
+    while (true) {
+      final var current = state.get();
+      var windowStart = current >>> COUNT_BITS;
+      var count = current & COUNT_MASK;
+      // no request admitted yet, so the zero start of the initial state is no window to count in
+      if (count == 0 || nowMillis - windowStart >= windowMillis) {
+        windowStart = nowMillis;
+        count = 0;
+      }
+      if (count + cost > limit) {
+        return false;
+      }
+      if (state.compareAndSet(current, windowStart << COUNT_BITS | (count + cost))) {
+        return true;
+      }
+    }
+  }
+
+  @Override
+  public long remaining(long nowMillis) {
+    final var current = state.get();
+    if (nowMillis - (current >>> COUNT_BITS) >= windowMillis) {
+      return limit;
+    }
+    return limit - (current & COUNT_MASK);
+  }
+
+  @Override
+  public long retryAfterMillis(long nowMillis, int permits) {
+    final var current = state.get();
+    final var windowEnd = (current >>> COUNT_BITS) + windowMillis;
+    if (nowMillis >= windowEnd || (current & COUNT_MASK) + Math.min(permits, limit) <= limit) {
+      return 0;
+    }
+    return windowEnd - nowMillis;
+  }
+}
@@ -0,0 +1,120 @@
+package com.reliaquest.server.web;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/*
+ * One RateLimiter per key, such as a client or a route, created on first use. Buckets not used for
+ * idleMillis are evicted, at most once per idleMillis by whichever request notices, and a new key
+ * arriving with maxKeys buckets held first evicts the idle ones and then, if that is not enough,
+ * the least recently used tenth of maxKeys in one pass, so any number of distinct keys holds a
+ * bounded amount of memory and a stream of new keys pays for one scan per batch rather than one
+ * per key. Concurrent first requests of different keys can overshoot maxKeys by the number of
+ * threads involved until the next eviction.
+ *
+ * An evicted key starts over with a fresh bucket. Keep idleMillis above the limiter's window so
+ * that only buckets which would have refilled anyway are dropped.
+ */
+public class KeyedRateLimiters {
+
+  private final Function<String, RateLimiter> factory;
+  private final int maxKeys;
+  private final int evictionBatch;
+  private final long idleMillis;
+  private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+  private final AtomicLong lastSweep = new AtomicLong();
+  private final ReentrantLock evictionLock = new ReentrantLock();
+
+  public KeyedRateLimiters(Function<String, RateLimiter> factory, int maxKeys, long idleMillis) {
+    if (maxKeys <= 0 || idleMillis <= 0) {
+      throw new IllegalArgumentException("max keys and idle timeout must be positive");
+    }
+    this.factory = factory;
+    this.maxKeys = maxKeys;
+    this.evictionBatch = Math.max(1, maxKeys / 10);
+    this.idleMillis = idleMillis;
+  }
+
+  public RateLimiter get(String key, long nowMillis) {
+    final var swept = lastSweep.get();
+    if (nowMillis - swept >= idleMillis && lastSweep.compareAndSet(swept, nowMillis)) {
+      evictIdle(nowMillis);
+    }
+    var bucket = buckets.get(key);
+    if (bucket == null) {
+      if (buckets.size() >= maxKeys) {
+        makeRoom(nowMillis);
+      }
+      bucket = buckets.computeIfAbsent(key, ignored -> new Bucket(factory.apply(key), nowMillis));
+    }
+    bucket.lastUsed = nowMillis;
+    return bucket.limiter;
+  }
+
+  public int size() {
+    return buckets.size();
+  }
+
+  private void evictIdle(long nowMillis) {
+    buckets.values().removeIf(bucket -> nowMillis - bucket.lastUsed >= idleMillis);
+  }
+
+  private void makeRoom(long nowMillis) {
+    evictionLock.lock();
+    try {
+      // another new key may have made room while this one waited
+      if (buckets.size() < maxKeys) {
+        return;
+      }
+      evictIdle(nowMillis);
+      final var excess = buckets.size() - (maxKeys - evictionBatch);
+      if (excess > 0) {
+        evictLeastRecentlyUsed(excess);
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /*
+   * Removes count buckets by last use, oldest first. Buckets used at the cutoff time are only
+   * removed until count is reached, so a burst of keys created in the same millisecond is not
+   * dropped as a whole.
+   */
+  private void evictLeastRecentlyUsed(int count) {
+    final var lastUsed = buckets.values().stream().mapToLong(bucket -> bucket.lastUsed).toArray();
+    if (lastUsed.length == 0) {
+      return;
+    }
+    Arrays.sort(lastUsed);
+    final var cutoff = lastUsed[Math.min(count, lastUsed.length) - 1];
+    var atCutoff = count;
+    for (final var used : lastUsed) {
+      if (used < cutoff) {
+        atCutoff--;
+      }
+    }
+    final var iterator = buckets.values().iterator();
+    while (iterator.hasNext()) {
+      final var used = iterator.next().lastUsed;
+      if (used < cutoff || (used == cutoff && atCutoff-- > 0)) {
+        iterator.remove();
+      }
+    }
+  }
+
+  private static final class Bucket {
+
+    private final RateLimiter limiter;
+    private volatile long lastUsed;
+
+    private Bucket(RateLimiter limiter, long lastUsed) {
+      this.limiter = limiter;
+      this.lastUsed = lastUsed;
+    }
+  }
+}
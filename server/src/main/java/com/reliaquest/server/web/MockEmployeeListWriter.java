@@ -0,0 +1,160 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+/*
+ * Writes the {"data":[...],"status":...} envelope of the employee list straight to the response
+ * stream, one employee at a time, with the same ObjectMapper the message converters use. The
+ * output is byte-identical to serializing Response.handledWith(employees), but nothing beyond the
+ * generator's own buffer is held per request. A page adds a top-level "next_cursor" after the
+ * data when more employees follow.
+ *
+ * Besides JSON the envelope can be written as Smile or CBOR with the ObjectMapper of the matching
+ * message converter, see negotiate.
+ */
+@Component
+public class MockEmployeeListWriter {
+
+  public static final MediaType APPLICATION_SMILE =
+      MediaType.valueOf("application/x-jackson-smile");
+
+  private final List<Format> formats;
+
+  public MockEmployeeListWriter(ObjectMapper objectMapper) {
+    this.formats = List.of(new Format(MediaType.APPLICATION_JSON, objectMapper));
+  }
+
+  @Autowired
+  public MockEmployeeListWriter(
+      ObjectMapper objectMapper,
+      MappingJackson2SmileHttpMessageConverter smileConverter,
+      MappingJackson2CborHttpMessageConverter cborConverter) {
+    this.formats =
+        List.of(
+            new Format(MediaType.APPLICATION_JSON, objectMapper),
+            new Format(APPLICATION_SMILE, smileConverter.getObjectMapper()),
+            new Format(MediaType.APPLICATION_CBOR, cborConverter.getObjectMapper()));
+  }
+
+  /*
+   * Picks the format the Accept header ranks highest. Each format takes the quality of the most
+   * specific range that includes it, so Smile asked for by name beats JSON matched by a wildcard.
+   * On equal rank, and for a missing, malformed or unsatisfiable header, JSON wins.
+   */
+  public MediaType negotiate(String accept) {
+    if (accept == null || accept.isBlank()) {
+      return MediaType.APPLICATION_JSON;
+    }
+    final List<MediaType> accepted;
+    try {
+      accepted = MediaType.parseMediaTypes(accept);
+    } catch (InvalidMediaTypeException e) {
+      return MediaType.APPLICATION_JSON;
+    }
+    var best = MediaType.APPLICATION_JSON;
+    var bestQuality = 0.0;
+    var bestSpecificity = -1;
+    for (final var format : formats) {
+      MediaType range = null;
+      for (final var mediaType : accepted) {
+        if (mediaType.includes(format.mediaType())
+            && (range == null || specificity(mediaType) > specificity(range))) {
+          range = mediaType;
+        }
+      }
+      if (range == null) {
+        continue;
+      }
+      final var quality = range.getQualityValue();
+      if (quality > bestQuality
+          || (quality > 0 && quality == bestQuality && specificity(range) > bestSpecificity)) {
+        best = format.mediaType();
+        bestQuality = quality;
+        bestSpecificity = specificity(range);
+      }
+    }
+    return best;
+  }
+
+  public void write(Collection<MockEmployee> employees, OutputStream outputStream)
+      throws IOException {
+    write(employees, null, outputStream);
+  }
+
+  public void write(
+      Collection<MockEmployee> employees, String nextCursor, OutputStream outputStream)
+      throws IOException {
+    write(MediaType.APPLICATION_JSON, employees, nextCursor, outputStream);
+  }
+
+  public void write(
+      MediaType mediaType,
+      Collection<MockEmployee> employees,
+      String nextCursor,
+      OutputStream outputStream)
+      throws IOException {
+    final var format = format(mediaType);
+    // the encoding only matters for JSON, the binary factories ignore it
+    try (JsonGenerator generator =
+        format.objectMapper().getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.writeStartObject();
+      generator.writeFieldName("data");
+      generator.writeStartArray();
+      for (final var employee : employees) {
+        format.employeeWriter().writeValue(generator, employee);
+      }
+      generator.writeEndArray();
+      if (nextCursor != null) {
+        generator.writeStringField("next_cursor", nextCursor);
+      }
+      generator.writeStringField("status", Response.Status.HANDLED.getValue());
+      generator.writeEndObject();
+    }
+  }
+
+  private static int specificity(MediaType range) {
+    if (range.isWildcardType()) {
+      return 0;
+    }
+    return range.isWildcardSubtype() ? 1 : 2;
+  }
+
+  private Format format(MediaType mediaType) {
+    for (final var format : formats) {
+      if (format.mediaType().equalsTypeAndSubtype(mediaType)) {
+        return format;
+      }
+    }
+    throw new IllegalArgumentException("Unsupported media type: " + mediaType);
+  }
+
+  private record Format(
+      MediaType mediaType, ObjectMapper objectMapper, ObjectWriter employeeWriter) {
+
+    Format(MediaType mediaType, ObjectMapper objectMapper) {
+      this(
+          mediaType,
+          objectMapper,
+          objectMapper
+              .writerFor(MockEmployee.class)
+              .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE));
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.reliaquest.server.web;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/*
+ * Opaque next_cursor of a paged employee list. Wraps the repository sequence number of the last
+ * employee on the page so clients do not come to rely on its format.
+ */
+public final class PageCursor {
+
+  private PageCursor() {}
+
+  public static String encode(long sequence) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(Long.toString(sequence).getBytes(StandardCharsets.US_ASCII));
+  }
+
+  /*
+   * Returns null when the cursor was not produced by encode().
+   */
+  public static Long decode(String cursor) {
+    try {
+      final var sequence =
+          Long.parseLong(
+              new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+      return sequence < 0 ? null : sequence;
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
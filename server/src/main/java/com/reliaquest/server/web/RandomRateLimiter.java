@@ -0,0 +1,96 @@
+package com.reliaquest.server.web;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/*
+ * The mock server's original limiter: once a request would take the count past limit it rejects
+ * everything until backoff has passed since the last admitted request, then starts counting
+ * again. limit and backoff are drawn once from a RandomGenerator, so a seeded generator makes a
+ * run reproducible.
+ *
+ * The time of the last admission and the count are packed into one AtomicLong like in
+ * FixedWindowRateLimiter and updated with a single compare-and-set.
+ */
+public class RandomRateLimiter implements RateLimiter {
+
+  private static final int COUNT_BITS = FixedWindowRateLimiter.COUNT_BITS;
+  private static final long COUNT_MASK = FixedWindowRateLimiter.COUNT_MASK;
+
+  private final int limit;
+  private final long backoffMillis;
+  private final AtomicLong state = new AtomicLong();
+
+  public RandomRateLimiter(int limit, long backoffMillis) {
+    if (limit <= 0 || limit > COUNT_MASK || backoffMillis <= 0) {
+      throw new IllegalArgumentException(
+          "limit must be in [1, " + COUNT_MASK + "] and backoff positive");
+    }
+    this.limit = limit;
+    this.backoffMillis = backoffMillis;
+  }
+
+  /*
+   * Draws limit from [minLimit, maxLimit) and backoff from [minBackoffMillis, maxBackoffMillis).
+   */
+  public static RandomRateLimiter drawnFrom(
+      RandomGenerator random,
+      int minLimit,
+      int maxLimit,
+      long minBackoffMillis,
+      long maxBackoffMillis) {
+    return new RandomRateLimiter(
+        random.nextInt(minLimit, maxLimit), random.nextLong(minBackoffMillis, maxBackoffMillis));
+  }
+
+  public int limit() {
+    return limit;
+  }
+
+  public long backoffMillis() {
+    return backoffMillis;
+  }
+
+  @Override
+  public boolean tryAcquire(long nowMillis, int permits) {
+    final var cost = Math.min(permits, limit);
+    while (true) {
+      final var current = state.get();
+      var count = current & COUNT_MASK;
+      if (count + cost > limit) {
+        if (backingOff(current, nowMillis)) {
+          return false;
+        }
+        count = 0;
+      }
+      // a request stamped before the last admission must not move the start of the backoff back
+      final var admittedAt = Math.max(nowMillis, current >>> COUNT_BITS);
+      if (state.compareAndSet(current, admittedAt << COUNT_BITS | (count + cost))) {
+        return true;
+      }
+    }
+  }
+
+  @Override
+  public long remaining(long nowMillis) {
+    final var current = state.get();
+    final var count = current & COUNT_MASK;
+    if (count >= limit) {
+      return backingOff(current, nowMillis) ? 0 : limit;
+    }
+    return limit - count;
+  }
+
+  @Override
+  public long retryAfterMillis(long nowMillis, int permits) {
+    final var current = state.get();
+    if ((current & COUNT_MASK) + Math.min(permits, limit) <= limit) {
+      return 0;
+    }
+    return Math.max(0, (current >>> COUNT_BITS) + backoffMillis - nowMillis);
+  }
+
+  private boolean backingOff(long state, long nowMillis) {
+    return nowMillis - (state >>> COUNT_BITS) < backoffMillis;
+  }
+}
@@ -2,49 +2,127 @@ package com.reliaquest.server.web;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.time.Duration;
-import java.time.Instant;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.random.RandomGenerator;
-import lombok.Getter;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+/*
+ * Throttles the mock server with the configured RateLimiter strategy. Every response carries
+ * X-RateLimit-Remaining; a rejected request is answered 429 with Retry-After in whole seconds, so
+ * clients can pace themselves instead of guessing.
+ *
+ * Scope decides which requests share a bucket: all of them, those of one client, those of one
+ * route, or those of one client on one route. A client is identified by its X-Client-Id header
+ * when that id is one of the configured client ids, else by its remote address: the caller sets
+ * the header, and trusting any id would let it rotate ids for a fresh bucket per request while
+ * pushing every other client's bucket out of KeyedRateLimiters. A route is the handler method's
+ * name in kebab case, such as get-employee, and costs the permits configured for that name, 1 if
+ * none are.
+ */
 public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
-  private static final int REQUEST_LIMIT = RandomGenerator.getDefault().nextInt(5, 10);
-  private static final Duration REQUEST_BACKOFF_DURATION =
-      Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+  public static final String RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
+  public static final String CLIENT_ID = "X-Client-Id";
 
-  private final AtomicReference<RequestLimit> requestLimit =
-      new AtomicReference<>(RequestLimit.init());
+  private static final Route UNMAPPED = new Route("unmapped", 1);
+
+  private final KeyedRateLimiters rateLimiters;
+  private final Scope scope;
+  private final Map<String, Integer> costs;
+  private final Set<String> clientIds;
+  private final LongSupplier clock;
+  private final ConcurrentMap<Method, Route> routes = new ConcurrentHashMap<>();
+
+  public RandomRequestLimitInterceptor(
+      KeyedRateLimiters rateLimiters,
+      Scope scope,
+      Map<String, Integer> costs,
+      Set<String> clientIds) {
+    this(rateLimiters, scope, costs, clientIds, System::currentTimeMillis);
+  }
+
+  RandomRequestLimitInterceptor(
+      KeyedRateLimiters rateLimiters,
+      Scope scope,
+      Map<String, Integer> costs,
+      Set<String> clientIds,
+      LongSupplier clock) {
+    this.rateLimiters = rateLimiters;
+    this.scope = scope;
+    this.costs = Map.copyOf(costs);
+    this.clientIds = Set.copyOf(clientIds);
+    this.clock = clock;
+  }
 
   @Override
   public boolean preHandle(
       HttpServletRequest request, HttpServletResponse response, Object handler) {
-    if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
-      if (Instant.now()
-          .minus(REQUEST_BACKOFF_DURATION)
-          .isBefore(requestLimit.get().getLastRequested())) {
-        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-        return false;
-      }
-      if (Instant.now()
-          .minus(REQUEST_BACKOFF_DURATION)
-          .isAfter(requestLimit.get().getLastRequested())) {
-        requestLimit.set(RequestLimit.init());
-      }
-    } else {
-      requestLimit.getAndUpdate(
-          currentRequestLimit -> new RequestLimit(currentRequestLimit.count() + 1, Instant.now()));
+    final var now = clock.getAsLong();
+    final var route = route(handler);
+    final var rateLimiter = rateLimiters.get(key(request, route), now);
+    if (!rateLimiter.tryAcquire(now, route.cost())) {
+      final var retryAfterSeconds =
+          Math.ceilDiv(rateLimiter.retryAfterMillis(now, route.cost()), 1000);
+      response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, retryAfterSeconds)));
+      response.setHeader(RATE_LIMIT_REMAINING, "0");
+      return false;
     }
-
+    response.setHeader(RATE_LIMIT_REMAINING, Long.toString(rateLimiter.remaining(now)));
     return true;
   }
 
-  private record RequestLimit(@Getter int count, @Getter Instant lastRequested) {
-    public static RequestLimit init() {
-      return new RequestLimit(0, Instant.now());
+  private String key(HttpServletRequest request, Route route) {
+    return switch (scope) {
+      case GLOBAL -> "";
+      case CLIENT -> client(request);
+      case ROUTE -> route.name();
+      case CLIENT_ROUTE -> client(request) + ' ' + route.name();
+    };
+  }
+
+  private String client(HttpServletRequest request) {
+    final var clientId = request.getHeader(CLIENT_ID);
+    return clientId != null && clientIds.contains(clientId) ? clientId : request.getRemoteAddr();
+  }
+
+  private Route route(Object handler) {
+    if (!(handler instanceof HandlerMethod handlerMethod)) {
+      return UNMAPPED;
     }
+    return routes.computeIfAbsent(
+        handlerMethod.getMethod(),
+        method -> {
+          final var name = kebabCase(method.getName());
+          return new Route(name, Math.max(1, costs.getOrDefault(name, 1)));
+        });
   }
+
+  static String kebabCase(String name) {
+    final var kebab = new StringBuilder(name.length() + 4);
+    for (final var c : name.toCharArray()) {
+      if (Character.isUpperCase(c)) {
+        kebab.append('-').append(Character.toLowerCase(c));
+      } else {
+        kebab.append(c);
+      }
+    }
+    return kebab.toString();
+  }
+
+  public enum Scope {
+    GLOBAL,
+    CLIENT,
+    ROUTE,
+    CLIENT_ROUTE
+  }
+
+  private record Route(String name, int cost) {}
 }
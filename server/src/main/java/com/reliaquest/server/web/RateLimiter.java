@@ -0,0 +1,35 @@
+package com.reliaquest.server.web;
+
+/*
+ * Decides whether the mock server admits a request. Times are epoch milliseconds passed in by the
+ * caller, so strategies stay deterministic under test. Implementations are thread-safe without
+ * locking: each keeps its state in a single AtomicLong and updates it by compare-and-set.
+ *
+ * A request costs permits out of the budget, one unless its route is weighted otherwise. A cost
+ * above the whole budget is charged as the whole budget, so such a request can still pass.
+ */
+public interface RateLimiter {
+
+  /*
+   * Admits or rejects one request arriving at nowMillis. An admitted request uses up budget.
+   */
+  default boolean tryAcquire(long nowMillis) {
+    return tryAcquire(nowMillis, 1);
+  }
+
+  boolean tryAcquire(long nowMillis, int permits);
+
+  /*
+   * Permits that would still be granted right now, without waiting.
+   */
+  long remaining(long nowMillis);
+
+  /*
+   * How long until a request would be admitted again; 0 when one would be admitted now.
+   */
+  default long retryAfterMillis(long nowMillis) {
+    return retryAfterMillis(nowMillis, 1);
+  }
+
+  long retryAfterMillis(long nowMillis, int permits);
+}
@@ -0,0 +1,111 @@
+package com.reliaquest.server.web;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Sliding window counter: admits a request while the requests of the current fixed window plus
+ * the previous window's, weighted by how much of it still overlaps the sliding window, stay within
+ * limit. Smooths the burst a fixed window allows at its boundary, in constant memory.
+ *
+ * The window number and both counts share one AtomicLong: the low 32 bits of the window number,
+ * then the previous and the current count in 16 bits each. Only the low bits of the window number
+ * are compared, which mistakes a window exactly 2^32 windows later for the same one and one more
+ * than 2^31 windows later for an earlier one, and limit is capped at 65535 so the counts fit.
+ */
+public class SlidingWindowRateLimiter implements RateLimiter {
+
+  private static final int COUNT_BITS = 16;
+  private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+  private static final long COUNTS_MASK = (1L << 2 * COUNT_BITS) - 1;
+  private static final long WINDOW_MASK = 0xFFFF_FFFFL;
+
+  private final int limit;
+  private final long windowMillis;
+  private final AtomicLong state = new AtomicLong();
+
+  public SlidingWindowRateLimiter(int limit, long windowMillis) {
+    if (limit <= 0 || limit > COUNT_MASK || windowMillis <= 0) {
+      throw new IllegalArgumentException(
+          "limit must be in [1, " + COUNT_MASK + "] and window positive");
+    }
+    this.limit = limit;
+    this.windowMillis = windowMillis;
+  }
+
+  @Override
+  public boolean tryAcquire(long nowMillis, int permits) {
+    final var cost = Math.min(permits, limit);
+    while (true) {
+      final var current = state.get();
+      final var rolled = roll(current, nowMillis);
+      if (weighted(rolled, nowMillis, currentCount(rolled) + cost) > (long) limit * windowMillis) {
+        return false;
+      }
+      if (state.compareAndSet(current, rolled + cost)) {
+        return true;
+      }
+    }
+  }
+
+  @Override
+  public long remaining(long nowMillis) {
+    final var rolled = roll(state.get(), nowMillis);
+    final var headroom =
+        (long) limit * windowMillis - weighted(rolled, nowMillis, currentCount(rolled));
+    return Math.max(0, headroom / windowMillis);
+  }
+
+  @Override
+  public long retryAfterMillis(long nowMillis, int permits) {
+    final var cost = Math.min(permits, limit);
+    final var rolled = roll(state.get(), nowMillis);
+    final var currentCount = currentCount(rolled);
+    final var elapsed = elapsed(nowMillis);
+    if (weighted(rolled, nowMillis, currentCount + cost) <= (long) limit * windowMillis) {
+      return 0;
+    }
+    if (currentCount + cost <= limit) {
+      // wait in this window until enough of the previous one has slid out
+      final var overlap = (limit - currentCount - cost) * windowMillis / previousCount(rolled);
+      return windowMillis - overlap - elapsed;
+    }
+    // the current window becomes the previous one and has to slide out far enough
+    final var overlap = (limit - cost) * windowMillis / currentCount;
+    return windowMillis - elapsed + windowMillis - overlap;
+  }
+
+  /*
+   * The state as of nowMillis: unchanged within the same or an earlier window, the current count
+   * moved to the previous one in the next window, and both cleared after that.
+   */
+  private long roll(long state, long nowMillis) {
+    final var now = Math.floorDiv(nowMillis, windowMillis) & WINDOW_MASK;
+    final var window = state >>> 2 * COUNT_BITS;
+    // a request stamped before the stored window, by a thread that read the clock before another
+    // one moved the window on, counts against the stored window instead of rolling it back
+    if (now == window || (int) (now - window) < 0 && (state & COUNTS_MASK) != 0) {
+      return state;
+    }
+    final var previous = now == ((window + 1) & WINDOW_MASK) ? currentCount(state) : 0;
+    return now << 2 * COUNT_BITS | previous << COUNT_BITS;
+  }
+
+  private static long currentCount(long state) {
+    return state & COUNT_MASK;
+  }
+
+  private static long previousCount(long state) {
+    return (state >>> COUNT_BITS) & COUNT_MASK;
+  }
+
+  private long elapsed(long nowMillis) {
+    return Math.floorMod(nowMillis, windowMillis);
+  }
+
+  /*
+   * The estimated request count of the sliding window, scaled by windowMillis to stay integral.
+   */
+  private long weighted(long state, long nowMillis, long current) {
+    return previousCount(state) * (windowMillis - elapsed(nowMillis)) + current * windowMillis;
+  }
+}
@@ -0,0 +1,63 @@
+package com.reliaquest.server.web;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Token bucket holding up to capacity requests, refilled continuously at capacity per refill
+ * period, so bursts up to capacity pass and the long-run rate is capacity per period. Starts full.
+ *
+ * Kept as the generic cell rate algorithm: instead of a level and the time of the last refill it
+ * stores only the time at which the bucket will be full again (the theoretical arrival time), so
+ * the whole state is one AtomicLong moved forward by a compare-and-set per admitted request. Times
+ * are in milliseconds scaled by capacity, where a permit costs refillMillis and a full bucket is
+ * capacity * refillMillis, which keeps the arithmetic exact.
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+
+  private static final int MAX_CAPACITY = 1 << 20;
+
+  private final long capacity;
+  private final long refillMillis;
+  private final long burst;
+  private final AtomicLong fullAt = new AtomicLong();
+
+  public TokenBucketRateLimiter(int capacity, long refillMillis) {
+    if (capacity <= 0 || capacity > MAX_CAPACITY || refillMillis <= 0) {
+      throw new IllegalArgumentException(
+          "capacity must be in [1, " + MAX_CAPACITY + "] and refill period positive");
+    }
+    this.capacity = capacity;
+    this.refillMillis = refillMillis;
+    this.burst = capacity * refillMillis;
+  }
+
+  @Override
+  public boolean tryAcquire(long nowMillis, int permits) {
+    final var now = nowMillis * capacity;
+    final var cost = Math.min(permits, capacity) * refillMillis;
+    while (true) {
+      final var current = fullAt.get();
+      final var next = Math.max(current, now) + cost;
+      if (next - now > burst) {
+        return false;
+      }
+      if (fullAt.compareAndSet(current, next)) {
+        return true;
+      }
+    }
+  }
+
+  @Override
+  public long remaining(long nowMillis) {
+    final var now = nowMillis * capacity;
+    return (burst - (Math.max(fullAt.get(), now) - now)) / refillMillis;
+  }
+
+  @Override
+  public long retryAfterMillis(long nowMillis, int permits) {
+    final var now = nowMillis * capacity;
+    final var cost = Math.min(permits, capacity) * refillMillis;
+    final var excess = Math.max(fullAt.get(), now) + cost - now - burst;
+    return excess <= 0 ? 0 : Math.ceilDiv(excess, capacity);
+  }
+}
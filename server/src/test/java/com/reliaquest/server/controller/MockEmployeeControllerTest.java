@@ -0,0 +1,66 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.repository.MockEmployeeRepository;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.MockEmployeeListWriter;
+import com.reliaquest.server.web.PageCursor;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class MockEmployeeControllerTest {
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+  private final MockEmployeeService mockEmployeeService = mock(MockEmployeeService.class);
+  private final MockEmployeeController controller =
+      new MockEmployeeController(
+          mockEmployeeService, new MockEmployeeListWriter(objectMapper), objectMapper);
+
+  @Test
+  void rejectsANegativeOffset() throws Exception {
+    assertBadRequest(getEmployees(-1, null, null));
+  }
+
+  @Test
+  void rejectsANonPositiveLimit() throws Exception {
+    assertBadRequest(getEmployees(0, 0, null));
+    assertBadRequest(getEmployees(0, -5, null));
+  }
+
+  @Test
+  void rejectsAForgedCursor() throws Exception {
+    assertBadRequest(getEmployees(0, 10, "forged"));
+    assertBadRequest(getEmployees(0, 10, PageCursor.encode(12) + "!"));
+  }
+
+  @Test
+  void pagesFromTheSequenceInAValidCursor() throws Exception {
+    when(mockEmployeeService.findPage(null, 12L, 0, 10))
+        .thenReturn(new MockEmployeeRepository.Page(List.of(), null));
+
+    final var response = getEmployees(0, 10, PageCursor.encode(12));
+
+    assertEquals(200, response.getStatus());
+    verify(mockEmployeeService).findPage(null, 12L, 0, 10);
+  }
+
+  private MockHttpServletResponse getEmployees(int offset, Integer limit, String cursor)
+      throws Exception {
+    final var response = new MockHttpServletResponse();
+    controller.getEmployees(null, offset, limit, cursor, null, response);
+    return response;
+  }
+
+  private void assertBadRequest(MockHttpServletResponse response) throws Exception {
+    assertEquals(400, response.getStatus());
+    final var body = objectMapper.readTree(response.getContentAsByteArray());
+    assertEquals("Failed to process request.", body.get("status").asText());
+    assertEquals("Invalid offset, limit or cursor.", body.get("error").asText());
+    verifyNoInteractions(mockEmployeeService);
+  }
+}
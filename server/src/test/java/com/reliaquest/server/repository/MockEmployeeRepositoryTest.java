@@ -0,0 +1,300 @@
+package com.reliaquest.server.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeRepositoryTest {
+
+  private static final int INITIAL = 1_000;
+  private static final int WRITERS = 8;
+  private static final int CREATES_PER_WRITER = 500;
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newFixedThreadPool(WRITERS * 2 + 2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void findsByIdAndFirstByNameIgnoringCase() {
+    final var first = employee("Jane Doe");
+    final var second = employee("JANE DOE");
+    final var repository = new MockEmployeeRepository(List.of(first, second, employee("John")));
+
+    assertEquals(first, repository.findById(first.getId()).orElseThrow());
+    assertEquals(first, repository.findFirstByName("jane doe").orElseThrow());
+
+    assertEquals(first, repository.deleteFirstByName("jane doe").orElseThrow());
+    assertEquals(second, repository.findFirstByName("Jane Doe").orElseThrow());
+    assertEquals(2, repository.count());
+  }
+
+  @Test
+  void keepsInsertionOrder() {
+    final var employees = List.of(employee("C"), employee("A"), employee("B"));
+    final var repository = new MockEmployeeRepository(employees);
+
+    assertEquals(employees, repository.findAll());
+  }
+
+  @Test
+  void deletesExactlyTheEmployeeWithThatIdFromEveryIndex() {
+    final var first = employee("Jane Doe", 1_000);
+    final var namesake = employee("Jane Doe", 5_000);
+    final var john = employee("John", 2_000);
+    final var repository = new MockEmployeeRepository(List.of(first, namesake, john));
+    final var listed = repository.findAll();
+
+    assertEquals(namesake, repository.deleteById(namesake.getId()).orElseThrow());
+    assertTrue(repository.deleteById(namesake.getId()).isEmpty());
+
+    assertEquals(List.of(first, namesake, john), listed, "earlier listings are not changed");
+    assertEquals(List.of(first, john), repository.findAll());
+    assertEquals(first, repository.findFirstByName("jane doe").orElseThrow());
+    assertEquals(2_000, repository.findHighestSalary().orElseThrow());
+    assertEquals(List.of(john, first), repository.findTopEarners(10));
+    assertEquals(3_000L, repository.salaryStats().totalSalary());
+  }
+
+  @Test
+  void pagesFilteredEmployeesByOffsetAndSequence() {
+    final var anna = employee("Anna Smith");
+    final var john = employee("John Doe");
+    final var hannah = employee("HANNAH Jones");
+    final var joanna = employee("Joanna Lee");
+    final var repository = new MockEmployeeRepository(List.of(anna, john, hannah, joanna));
+
+    final var first = repository.findPage("ANN", null, 0, 2);
+    assertEquals(List.of(anna, hannah), first.employees());
+    assertNotNull(first.nextSequence());
+
+    // deleting an employee before the cursor does not shift the next page
+    repository.deleteById(anna.getId());
+    final var second = repository.findPage("ann", first.nextSequence(), 0, 2);
+    assertEquals(List.of(joanna), second.employees());
+    assertNull(second.nextSequence());
+
+    assertEquals(List.of(joanna), repository.findPage(null, null, 2, 5).employees());
+    assertEquals(repository.findAll(), repository.findPage(null, null, 0, 10).employees());
+  }
+
+  @Test
+  void savesAndDeletesBatchesInOneWrite() {
+    final var john = employee("John", 1_000);
+    final var repository = new MockEmployeeRepository(List.of(john));
+    final var jane = employee("Jane", 2_000);
+    final var alex = employee("Alex", 3_000);
+
+    repository.saveAll(List.of(jane, alex));
+    assertEquals(List.of(john, jane, alex), repository.findAll());
+
+    final var deleted =
+        repository.deleteAllById(List.of(alex.getId(), UUID.randomUUID(), alex.getId()));
+    assertEquals(List.of(Optional.of(alex), Optional.empty(), Optional.empty()), deleted);
+    assertEquals(List.of(john, jane), repository.findAll());
+    assertEquals(3_000L, repository.salaryStats().totalSalary());
+  }
+
+  @Test
+  void maintainsSalaryAggregatesAcrossWrites() {
+    final var john = employee("John", 1_000);
+    final var jane = employee("Jane", 3_000);
+    final var alex = employee("Alex", 3_000);
+    final var repository = new MockEmployeeRepository(List.of(john, jane, alex));
+
+    assertEquals(3_000, repository.findHighestSalary().orElseThrow());
+    assertEquals(List.of(jane, alex), repository.findTopEarners(2));
+
+    final var emily = employee("Emily", 4_000);
+    repository.save(emily);
+    repository.deleteById(jane.getId());
+
+    final var stats = repository.salaryStats();
+    assertEquals(3, stats.count());
+    assertEquals(8_000L, stats.totalSalary());
+    assertEquals(8_000d / 3, stats.meanSalary());
+    assertEquals(1_000, stats.minSalary());
+    assertEquals(4_000, stats.maxSalary());
+    assertEquals(List.of(emily, alex, john), repository.findTopEarners(10));
+
+    repository.deleteById(emily.getId());
+    assertEquals(3_000, repository.findHighestSalary().orElseThrow());
+  }
+
+  @Test
+  void replacingAnEmployeeKeepsItsPlaceAndReindexesIt() {
+    final var john = employee("John", 1_000);
+    final var jane = employee("Jane", 2_000);
+    final var repository = new MockEmployeeRepository(List.of(john, jane));
+    final var renamed = john.toBuilder().name("Johnny").salary(3_000).build();
+
+    repository.save(renamed);
+
+    assertEquals(List.of(renamed, jane), repository.findAll());
+    assertTrue(repository.findFirstByName("John").isEmpty());
+    assertEquals(renamed, repository.findFirstByName("johnny").orElseThrow());
+    assertEquals(List.of(renamed, jane), repository.findTopEarners(10));
+    assertEquals(5_000L, repository.salaryStats().totalSalary());
+    assertEquals(2, repository.salaryStats().count());
+  }
+
+  @Test
+  void reportsEmptyAggregatesWithoutEmployees() {
+    final var repository = new MockEmployeeRepository(List.of());
+
+    assertTrue(repository.findHighestSalary().isEmpty());
+    assertTrue(repository.findTopEarners(10).isEmpty());
+    assertEquals(0, repository.salaryStats().count());
+    assertNull(repository.salaryStats().maxSalary());
+  }
+
+  @Test
+  void concurrentCreatesAndDeletesAreLinearizable() throws Exception {
+    final var initial = new ArrayList<MockEmployee>();
+    for (int i = 0; i < INITIAL; i++) {
+      initial.add(employee("Initial " + i));
+    }
+    final var repository = new MockEmployeeRepository(initial);
+    final var start = new CountDownLatch(1);
+    final var writing = new AtomicBoolean(true);
+    final var successfulDeletes = new AtomicInteger();
+    final var futures = new ArrayList<Future<?>>();
+
+    // creators add fresh employees while deleters race each other over the same initial ids; the
+    // deleter that wins an id then saves a replacement for it
+    final var replaced = new ConcurrentHashMap<UUID, UUID>();
+    for (int w = 0; w < WRITERS; w++) {
+      final var writer = w;
+      futures.add(
+          submit(
+              start,
+              () -> {
+                for (int i = 0; i < CREATES_PER_WRITER; i++) {
+                  repository.save(employee("Writer " + writer + " " + i));
+                }
+                return null;
+              }));
+      futures.add(
+          submit(
+              start,
+              () -> {
+                for (final var employee : initial) {
+                  if (repository.deleteById(employee.getId()).isPresent()) {
+                    successfulDeletes.incrementAndGet();
+                    final var replacement = employee("Replacement " + employee.getName());
+                    replaced.put(replacement.getId(), employee.getId());
+                    repository.save(replacement);
+                  }
+                }
+                return null;
+              }));
+    }
+    // every listing must be a state the repository was in: no duplicates, each creator's employees
+    // a prefix of what it saved, no replacement next to the employee it replaced, and every listed
+    // employee that is never deleted (all but the initial ones) resolvable by id
+    final Set<UUID> initialIds = new HashSet<>();
+    initial.forEach(employee -> initialIds.add(employee.getId()));
+    final var readers = new ArrayList<Future<?>>();
+    for (final var paged : List.of(false, true)) {
+      readers.add(
+          submit(
+              start,
+              () -> {
+                while (writing.get()) {
+                  final var snapshot =
+                      paged
+                          ? repository.findPage(null, null, 0, Integer.MAX_VALUE).employees()
+                          : repository.findAll();
+                  final Set<UUID> ids = new HashSet<>();
+                  final Map<String, Integer> createdPerWriter = new HashMap<>();
+                  for (final var employee : snapshot) {
+                    assertTrue(ids.add(employee.getId()), "duplicate in snapshot");
+                    final var name = employee.getName().split(" ");
+                    if (name[0].equals("Writer")) {
+                      final var created = createdPerWriter.merge(name[1], 1, Integer::sum);
+                      assertEquals(created - 1, Integer.parseInt(name[2]), "creates out of order");
+                    }
+                    if (!initialIds.contains(employee.getId())) {
+                      assertTrue(
+                          repository.findById(employee.getId()).isPresent(),
+                          "listed employee not resolvable by id");
+                    }
+                  }
+                  for (final var id : ids) {
+                    final var original = replaced.get(id);
+                    assertTrue(
+                        original == null || !ids.contains(original),
+                        "replacement listed together with the employee it replaced");
+                  }
+                }
+                return null;
+              }));
+    }
+
+    start.countDown();
+    for (final var future : futures) {
+      future.get(60, TimeUnit.SECONDS);
+    }
+    writing.set(false);
+    for (final var reader : readers) {
+      reader.get(10, TimeUnit.SECONDS);
+    }
+
+    assertEquals(INITIAL, successfulDeletes.get(), "every initial employee deleted exactly once");
+    assertEquals(WRITERS * CREATES_PER_WRITER + INITIAL, repository.count(), "no lost creates");
+    assertEquals(repository.count(), repository.findAll().size());
+    assertEquals(repository.count(), repository.salaryStats().count());
+    assertEquals(50_000L * repository.count(), repository.salaryStats().totalSalary());
+    initial.forEach(employee -> assertTrue(repository.findById(employee.getId()).isEmpty()));
+  }
+
+  private Future<?> submit(CountDownLatch start, Callable<Void> task) {
+    return executor.submit(
+        () -> {
+          start.await();
+          return task.call();
+        });
+  }
+
+  private static MockEmployee employee(String name) {
+    return employee(name, 50_000);
+  }
+
+  private static MockEmployee employee(String name, int salary) {
+    return MockEmployee.builder()
+        .id(UUID.randomUUID())
+        .name(name)
+        .salary(salary)
+        .age(30)
+        .title("Engineer")
+        .email("employee@company.com")
+        .build();
+  }
+}
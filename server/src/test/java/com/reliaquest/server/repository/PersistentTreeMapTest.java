@@ -0,0 +1,56 @@
+package com.reliaquest.server.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+class PersistentTreeMapTest {
+
+  @Test
+  void matchesATreeMapUnderRandomWrites() {
+    final var random = new Random(42);
+    final var expected = new TreeMap<Integer, String>();
+    var map = PersistentTreeMap.<Integer, String>empty();
+    for (var i = 0; i < 20_000; i++) {
+      final var key = random.nextInt(2_000);
+      if (random.nextBoolean()) {
+        expected.put(key, "v" + i);
+        map = map.put(key, "v" + i);
+      } else {
+        expected.remove(key);
+        map = map.remove(key);
+      }
+    }
+
+    assertEquals(expected.size(), map.size());
+    assertEquals(new ArrayList<>(expected.values()), values(map.values()));
+    assertEquals(
+        new ArrayList<>(expected.tailMap(1_000, false).values()), values(map.valuesAfter(1_000)));
+    assertEquals(expected.firstEntry().getValue(), map.first());
+    assertEquals(expected.lastEntry().getValue(), map.last());
+    assertEquals(expected.ceilingEntry(500).getValue(), map.ceiling(500));
+    assertEquals(expected.get(700), map.get(700));
+  }
+
+  @Test
+  void writesLeaveEarlierVersionsUntouched() {
+    final var before = PersistentTreeMap.<Integer, String>empty().put(1, "a").put(2, "b");
+
+    final var after = before.remove(1).put(3, "c").put(2, "B");
+
+    assertEquals(List.of("a", "b"), values(before.values()));
+    assertEquals(List.of("B", "c"), values(after.values()));
+    assertNull(after.get(1));
+    assertNull(before.ceiling(3));
+  }
+
+  private static <V> List<V> values(Iterable<V> values) {
+    final var list = new ArrayList<V>();
+    values.forEach(list::add);
+    return list;
+  }
+}
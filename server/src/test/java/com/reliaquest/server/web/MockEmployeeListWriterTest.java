@@ -0,0 +1,104 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+class MockEmployeeListWriterTest {
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+  private final ObjectMapper smileMapper =
+      Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+  private final ObjectMapper cborMapper =
+      Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+  private final MockEmployeeListWriter writer =
+      new MockEmployeeListWriter(
+          objectMapper,
+          new MappingJackson2SmileHttpMessageConverter(smileMapper),
+          new MappingJackson2CborHttpMessageConverter(cborMapper));
+
+  @Test
+  void writesSameBytesAsSerializingTheResponse() throws Exception {
+    final var employees =
+        List.of(
+            employee("Tiger Nixon", 320800),
+            employee("Bill \"Bob\" Ünal", 89750),
+            MockEmployee.builder().id(UUID.randomUUID()).name("No Email").build());
+
+    assertArrayEquals(
+        objectMapper.writeValueAsBytes(Response.handledWith(employees)), write(employees));
+  }
+
+  @Test
+  void writesSameBytesForAnEmptyList() throws Exception {
+    assertArrayEquals(
+        objectMapper.writeValueAsBytes(Response.handledWith(List.of())), write(List.of()));
+  }
+
+  @Test
+  void writesSameBytesAsSerializingTheResponseInBinaryFormats() throws Exception {
+    final var employees = List.of(employee("Tiger Nixon", 320800), employee("Ashton Cox", 86000));
+
+    assertArrayEquals(
+        smileMapper.writeValueAsBytes(Response.handledWith(employees)),
+        write(MockEmployeeListWriter.APPLICATION_SMILE, employees));
+    assertArrayEquals(
+        cborMapper.writeValueAsBytes(Response.handledWith(employees)),
+        write(MediaType.APPLICATION_CBOR, employees));
+  }
+
+  @Test
+  void negotiatesTheFormatFromAccept() {
+    assertEquals(MediaType.APPLICATION_JSON, writer.negotiate(null));
+    assertEquals(MediaType.APPLICATION_JSON, writer.negotiate("*/*"));
+    assertEquals(MediaType.APPLICATION_JSON, writer.negotiate("text/html"));
+    assertEquals(MediaType.APPLICATION_JSON, writer.negotiate("not a media type"));
+    assertEquals(
+        MockEmployeeListWriter.APPLICATION_SMILE,
+        writer.negotiate("application/x-jackson-smile, application/json;q=0.9"));
+    assertEquals(
+        MockEmployeeListWriter.APPLICATION_SMILE,
+        writer.negotiate("application/x-jackson-smile, */*"));
+    assertEquals(MediaType.APPLICATION_CBOR, writer.negotiate("application/cbor"));
+    assertEquals(
+        MediaType.APPLICATION_JSON, writer.negotiate("application/cbor;q=0.5, application/json"));
+    assertEquals(
+        MockEmployeeListWriter.APPLICATION_SMILE,
+        writer.negotiate("application/*, application/json;q=0"));
+  }
+
+  private byte[] write(List<MockEmployee> employees) throws Exception {
+    final var outputStream = new ByteArrayOutputStream();
+    writer.write(employees, outputStream);
+    return outputStream.toByteArray();
+  }
+
+  private byte[] write(MediaType mediaType, List<MockEmployee> employees) throws Exception {
+    final var outputStream = new ByteArrayOutputStream();
+    writer.write(mediaType, employees, null, outputStream);
+    return outputStream.toByteArray();
+  }
+
+  private static MockEmployee employee(String name, int salary) {
+    return MockEmployee.builder()
+        .id(UUID.randomUUID())
+        .name(name)
+        .salary(salary)
+        .age(30)
+        .title("Engineer")
+        .email("employee@company.com")
+        .build();
+  }
+}
@@ -0,0 +1,35 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+class PageCursorTest {
+
+  @Test
+  void decodesWhatItEncodes() {
+    for (final var sequence : new long[] {0, 1, 12, 1_000_000, Long.MAX_VALUE}) {
+      final var cursor = PageCursor.encode(sequence);
+
+      assertEquals(sequence, PageCursor.decode(cursor));
+      assertTrue(cursor.matches("[A-Za-z0-9_-]+"), "url safe and unpadded: " + cursor);
+    }
+  }
+
+  @Test
+  void rejectsCursorsItDidNotEncode() {
+    assertNull(PageCursor.decode(""));
+    assertNull(PageCursor.decode("not a cursor!"));
+    assertNull(PageCursor.decode(base64("twelve")));
+    assertNull(PageCursor.decode(base64("-12")));
+    assertNull(PageCursor.decode(base64("99999999999999999999")));
+  }
+
+  private static String base64(String text) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(text.getBytes(StandardCharsets.US_ASCII));
+  }
+}
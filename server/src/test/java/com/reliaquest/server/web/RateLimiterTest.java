@@ -0,0 +1,312 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.web.RandomRequestLimitInterceptor.Scope;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class RateLimiterTest {
+
+  private static final Set<String> CLIENT_IDS = Set.of("replica-1", "replica-2");
+
+  @Test
+  void fixedWindowAdmitsLimitPerWindow() {
+    final var limiter = new FixedWindowRateLimiter(3, 1_000);
+
+    assertEquals(3, admitted(limiter, 1_000, 5));
+    assertEquals(0, limiter.remaining(1_500));
+    assertEquals(500, limiter.retryAfterMillis(1_500));
+    assertEquals(3, admitted(limiter, 2_000, 5));
+
+    // the first request opens the window, even one within a window of the epoch
+    final var fresh = new FixedWindowRateLimiter(1, 10_000);
+    assertEquals(1, admitted(fresh, 5_000, 2));
+    assertEquals(10_000, fresh.retryAfterMillis(5_000));
+  }
+
+  @Test
+  void slidingWindowWeighsThePreviousWindow() {
+    final var limiter = new SlidingWindowRateLimiter(4, 1_000);
+
+    assertEquals(4, admitted(limiter, 0, 10));
+    // a quarter into the next window three quarters of the previous one still count
+    assertEquals(1, admitted(limiter, 1_250, 10));
+    // 3 + 1 = 4 until enough of the previous window has slid out to make room for one more
+    assertEquals(250, limiter.retryAfterMillis(1_250));
+    assertFalse(limiter.tryAcquire(1_499));
+    assertTrue(limiter.tryAcquire(1_500));
+  }
+
+  @Test
+  void tokenBucketRefillsContinuously() {
+    final var limiter = new TokenBucketRateLimiter(10, 1_000);
+
+    assertEquals(10, admitted(limiter, 0, 20));
+    assertEquals(100, limiter.retryAfterMillis(0));
+    assertEquals(0, admitted(limiter, 99, 1));
+    assertEquals(1, admitted(limiter, 100, 5));
+    assertEquals(10, limiter.remaining(10_000));
+  }
+
+  @Test
+  void randomLimiterBacksOffAfterItsLimit() {
+    final var limiter = new RandomRateLimiter(2, 30_000);
+
+    assertEquals(2, admitted(limiter, 0, 5));
+    assertEquals(30_000, limiter.retryAfterMillis(0));
+    assertEquals(0, admitted(limiter, 29_999, 1));
+    assertEquals(2, admitted(limiter, 30_000, 5));
+  }
+
+  @Test
+  void randomLimiterDrawsTheSameProfileFromTheSameSeed() {
+    final var first = RandomRateLimiter.drawnFrom(new Random(7), 5, 10, 30_000, 90_000);
+    final var second = RandomRateLimiter.drawnFrom(new Random(7), 5, 10, 30_000, 90_000);
+
+    assertEquals(first.limit(), second.limit());
+    assertEquals(first.backoffMillis(), second.backoffMillis());
+    assertTrue(first.limit() >= 5 && first.limit() < 10);
+  }
+
+  @Test
+  void lateRequestsDoNotRewindTheLimiter() {
+    // a request stamped earlier than one already seen, as when threads race reading the clock
+    final var sliding = new SlidingWindowRateLimiter(4, 1_000);
+    assertEquals(4, admitted(sliding, 1_000, 5));
+    assertEquals(0, admitted(sliding, 999, 5));
+    assertEquals(0, admitted(sliding, 1_999, 5));
+
+    final var random = new RandomRateLimiter(2, 1_000);
+    assertEquals(1, admitted(random, 1_000, 1));
+    assertEquals(1, admitted(random, 500, 1));
+    // backing off since the admission at 1_000, not the late one at 500
+    assertEquals(0, admitted(random, 1_500, 1));
+    assertEquals(1, admitted(random, 2_000, 1));
+  }
+
+  @Test
+  void concurrentRequestsNeverOverAdmit() throws Exception {
+    for (var round = 0; round < 20; round++) {
+      final List<RateLimiter> limiters =
+          List.of(
+              new FixedWindowRateLimiter(100, 1_000),
+              new SlidingWindowRateLimiter(100, 1_000),
+              new TokenBucketRateLimiter(100, 1_000),
+              new RandomRateLimiter(100, 1_000));
+      for (final var limiter : limiters) {
+        final var clock = new AtomicLong();
+        final var admitted = admittedConcurrently(limiter, clock, 8, 1_000);
+        // at most a full budget plus what refills or resets while the clock ran
+        final var bound = 100 + 100 * clock.get() / 1_000;
+        final var name = limiter.getClass().getSimpleName();
+        assertTrue(admitted <= bound, name + " admitted " + admitted + " of at most " + bound);
+        assertTrue(admitted > 100, name + " never reset or refilled");
+      }
+    }
+  }
+
+  @Test
+  void interceptorReportsRemainingAndRetryAfter() {
+    final var interceptor =
+        interceptor(key -> new FixedWindowRateLimiter(2, 10_000), Scope.GLOBAL, Map.of());
+
+    final var first = new MockHttpServletResponse();
+    assertTrue(interceptor.preHandle(new MockHttpServletRequest(), first, null));
+    assertEquals("1", first.getHeader(RandomRequestLimitInterceptor.RATE_LIMIT_REMAINING));
+
+    interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null);
+
+    final var rejected = new MockHttpServletResponse();
+    assertFalse(interceptor.preHandle(new MockHttpServletRequest(), rejected, null));
+    assertEquals(429, rejected.getStatus());
+    assertEquals("10", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+    assertEquals("0", rejected.getHeader(RandomRequestLimitInterceptor.RATE_LIMIT_REMAINING));
+  }
+
+  @Test
+  void interceptorChargesTheCostOfTheRoute() throws Exception {
+    final var rateLimiters =
+        new KeyedRateLimiters(key -> new FixedWindowRateLimiter(10, 10_000), 10, 60_000);
+    final var interceptor =
+        new RandomRequestLimitInterceptor(
+            rateLimiters, Scope.ROUTE, Map.of("get-employees", 4), Set.of(), () -> 1_000);
+    final var list = new HandlerMethod(new Routes(), Routes.class.getMethod("getEmployees"));
+    final var byId = new HandlerMethod(new Routes(), Routes.class.getMethod("getEmployee"));
+
+    assertEquals(2, admitted(interceptor, list, new MockHttpServletRequest(), 5));
+    assertEquals(2, rateLimiters.get("get-employees", 1_000).remaining(1_000));
+    // by id has its own bucket and costs the default 1
+    assertEquals(10, admitted(interceptor, byId, new MockHttpServletRequest(), 15));
+  }
+
+  @Test
+  void interceptorKeepsABucketPerClient() throws Exception {
+    final var interceptor =
+        interceptor(key -> new FixedWindowRateLimiter(3, 10_000), Scope.CLIENT, Map.of());
+    final var noisy = new MockHttpServletRequest();
+    noisy.addHeader(RandomRequestLimitInterceptor.CLIENT_ID, "replica-1");
+    final var quiet = new MockHttpServletRequest();
+    quiet.addHeader(RandomRequestLimitInterceptor.CLIENT_ID, "replica-2");
+    final var anonymous = new MockHttpServletRequest();
+    anonymous.setRemoteAddr("10.0.0.7");
+
+    assertEquals(3, admitted(interceptor, null, noisy, 10));
+    assertEquals(3, admitted(interceptor, null, quiet, 10));
+    assertEquals(3, admitted(interceptor, null, anonymous, 10));
+  }
+
+  @Test
+  void interceptorBucketsUnlistedClientIdsByRemoteAddress() throws Exception {
+    final var rateLimiters =
+        new KeyedRateLimiters(key -> new FixedWindowRateLimiter(3, 10_000), 100, 60_000);
+    final var interceptor =
+        new RandomRequestLimitInterceptor(
+            rateLimiters, Scope.CLIENT, Map.of(), CLIENT_IDS, () -> 1_000);
+
+    // a caller rotating ids it was not given gets no fresh buckets and evicts no one else's
+    var admitted = 0;
+    for (var i = 0; i < 1_000; i++) {
+      final var rotating = new MockHttpServletRequest();
+      rotating.setRemoteAddr("10.0.0.9");
+      rotating.addHeader(RandomRequestLimitInterceptor.CLIENT_ID, "rotated-" + i);
+      admitted += admitted(interceptor, null, rotating, 1);
+    }
+    assertEquals(3, admitted);
+    assertEquals(1, rateLimiters.size());
+  }
+
+  @Test
+  void keyedRateLimitersEvictIdleAndLeastRecentlyUsedBuckets() {
+    final var rateLimiters =
+        new KeyedRateLimiters(key -> new FixedWindowRateLimiter(1, 10_000), 2, 60_000);
+
+    final var a = rateLimiters.get("a", 0);
+    rateLimiters.get("b", 1_000);
+    assertSame(a, rateLimiters.get("a", 2_000));
+    // full, so b as the least recently used makes room for c
+    rateLimiters.get("c", 3_000);
+    assertEquals(2, rateLimiters.size());
+    assertSame(a, rateLimiters.get("a", 4_000));
+
+    // a and c have been idle for the timeout and are swept by the next request, which starts over
+    final var d = rateLimiters.get("d", 64_000);
+    assertEquals(1, rateLimiters.size());
+    assertNotSame(a, rateLimiters.get("a", 64_000));
+    assertSame(d, rateLimiters.get("d", 64_000));
+  }
+
+  @Test
+  void keyedRateLimitersEvictTheLeastRecentlyUsedInBatches() {
+    final var rateLimiters =
+        new KeyedRateLimiters(key -> new FixedWindowRateLimiter(1, 10_000), 20, 60_000);
+    final var first = rateLimiters.get("key-0", 0);
+    for (var i = 1; i < 20; i++) {
+      rateLimiters.get("key-" + i, i);
+    }
+    rateLimiters.get("key-0", 20);
+
+    // full, so a tenth of the keys go at once: the two least recently used, key-1 and key-2
+    rateLimiters.get("new-1", 21);
+    assertEquals(19, rateLimiters.size());
+    rateLimiters.get("new-2", 22);
+    assertEquals(20, rateLimiters.size());
+    assertSame(first, rateLimiters.get("key-0", 23));
+    assertSame(rateLimiters.get("key-3", 24), rateLimiters.get("key-3", 24));
+
+    // keys used in the same millisecond are evicted only up to the batch, not all together
+    final var burst =
+        new KeyedRateLimiters(key -> new FixedWindowRateLimiter(1, 10_000), 20, 60_000);
+    for (var i = 0; i < 21; i++) {
+      burst.get("key-" + i, 0);
+    }
+    assertEquals(19, burst.size());
+  }
+
+  @Test
+  void routesAreNamedInKebabCase() {
+    assertEquals(
+        "delete-employee-by-id", RandomRequestLimitInterceptor.kebabCase("deleteEmployeeById"));
+  }
+
+  private static int admitted(RateLimiter limiter, long nowMillis, int attempts) {
+    var admitted = 0;
+    for (var i = 0; i < attempts; i++) {
+      if (limiter.tryAcquire(nowMillis)) {
+        admitted++;
+      }
+    }
+    return admitted;
+  }
+
+  private static int admitted(
+      RandomRequestLimitInterceptor interceptor,
+      Object handler,
+      MockHttpServletRequest request,
+      int attempts) {
+    var admitted = 0;
+    for (var i = 0; i < attempts; i++) {
+      if (interceptor.preHandle(request, new MockHttpServletResponse(), handler)) {
+        admitted++;
+      }
+    }
+    return admitted;
+  }
+
+  private static RandomRequestLimitInterceptor interceptor(
+      Function<String, RateLimiter> factory, Scope scope, Map<String, Integer> costs) {
+    return new RandomRequestLimitInterceptor(
+        new KeyedRateLimiters(factory, 100, 60_000), scope, costs, CLIENT_IDS, () -> 1_000);
+  }
+
+  /*
+   * Releases all threads at once so their attempts race on the limiter state. Every attempt
+   * advances the shared clock by a millisecond, so windows reset and tokens refill while other
+   * threads are acquiring, and a thread may arrive with a time older than the limiter has seen.
+   */
+  private static int admittedConcurrently(
+      RateLimiter limiter, AtomicLong clock, int threads, int attemptsPerThread)
+      throws InterruptedException {
+    final var start = new CountDownLatch(1);
+    final var admitted = new AtomicInteger();
+    try (final var executor = Executors.newFixedThreadPool(threads)) {
+      for (var thread = 0; thread < threads; thread++) {
+        executor.execute(
+            () -> {
+              try {
+                start.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+              }
+              for (var i = 0; i < attemptsPerThread; i++) {
+                if (limiter.tryAcquire(clock.getAndIncrement())) {
+                  admitted.incrementAndGet();
+                }
+              }
+            });
+      }
+      start.countDown();
+    }
+    return admitted.get();
+  }
+
+  static class Routes {
+
+    public void getEmployees() {}
+
+    public void getEmployee() {}
+  }
+}